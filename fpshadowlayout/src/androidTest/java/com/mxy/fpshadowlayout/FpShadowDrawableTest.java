@@ -0,0 +1,134 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+
+/**
+ * 属性动画修改参数后，取出的 ShadowSpec 与当前参数一致，重新设置原来的 ShadowSpec 能够恢复；
+ * 后台渲染切换为同步后阴影照常绘制；Builder 的默认值与不设置属性的 FpShadowLayout 相同
+ */
+@RunWith(AndroidJUnit4.class)
+public class FpShadowDrawableTest {
+
+    private static ShadowSpec createSpec() {
+        return new ShadowSpec.Builder()
+                .setShadowColor(Color.RED)
+                .setShadowRadius(12)
+                .setShadowShape(FpShadowLayout.SHAPE_ROUND_RECTANGLE)
+                .setRoundCornerRadius(8)
+                .build();
+    }
+
+    @Test
+    public void shadowColorAnimationInvalidatesSpec() {
+
+        ShadowSpec spec = createSpec();
+
+        FpShadowDrawable drawable = new FpShadowDrawable();
+
+        drawable.setShadowSpec(spec);
+
+        FpShadowDrawable.SHADOW_COLOR.set(drawable, Color.BLUE);
+
+        assertEquals(Color.BLUE, drawable.getShadowColor());
+
+        assertEquals(Color.BLUE, drawable.getShadowSpec().getShadowColor());
+
+        drawable.setShadowSpec(spec);
+
+        assertEquals(Color.RED, drawable.getShadowColor());
+
+        assertSame(spec, drawable.getShadowSpec());
+    }
+
+    @Test
+    public void shadowRadiusAnimationInvalidatesSpec() {
+
+        ShadowSpec spec = createSpec();
+
+        FpShadowDrawable drawable = new FpShadowDrawable();
+
+        drawable.setShadowSpec(spec);
+
+        FpShadowDrawable.SHADOW_RADIUS.set(drawable, 20f);
+
+        assertEquals(20f, drawable.getShadowSpec().getShadowRadius(), 0);
+
+        drawable.setShadowSpec(spec);
+
+        assertEquals(12f, drawable.getShadowRadius(), 0);
+
+        assertSame(spec, drawable.getShadowSpec());
+    }
+
+    @Test
+    public void disablingAsyncWhileRenderPendingStillDrawsShadow() {
+
+        //任务只排队不执行，模拟后台渲染还没完成
+        final List<Runnable> pending = new ArrayList<>();
+
+        FpShadowLayout.setShadowExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                pending.add(command);
+            }
+        });
+
+        ShadowCache.clear();
+
+        try {
+
+            FpShadowDrawable drawable = new FpShadowDrawable();
+
+            drawable.setShadowColor(Color.BLACK);
+
+            drawable.setShadowRadius(12.5f);
+
+            drawable.setShadowCacheMode(FpShadowLayout.CACHE_BITMAP);
+
+            drawable.setShadowAsync(true);
+
+            drawable.setBounds(0, 0, 200, 120);
+
+            assertEquals(1, pending.size());
+
+            drawable.setShadowAsync(false);
+
+            Bitmap bitmap = Bitmap.createBitmap(200, 120, Bitmap.Config.ARGB_8888);
+
+            drawable.draw(new Canvas(bitmap));
+
+            //左边阴影的中间
+            assertTrue(Color.alpha(bitmap.getPixel(6, 60)) > 0);
+
+            assertEquals(1, drawable.getRenderStats().getShadowRenderCount());
+
+            bitmap.recycle();
+
+        } finally {
+
+            FpShadowLayout.setShadowExecutor(null);
+
+        }
+    }
+
+    @Test
+    public void defaultBuilderMatchesDefaultLayout() {
+
+        FpShadowLayout layout = new FpShadowLayout(InstrumentationRegistry.getTargetContext());
+
+        assertSame(new ShadowSpec.Builder().build(), layout.getShadowSpec());
+    }
+}
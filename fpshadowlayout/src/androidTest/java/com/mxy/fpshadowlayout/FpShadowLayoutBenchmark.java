@@ -0,0 +1,461 @@
+package com.mxy.fpshadowlayout;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.PixelFormat;
+import android.media.Image;
+import android.media.ImageReader;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.filters.LargeTest;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+import android.view.Surface;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 在设备上测量 FpShadowLayout 的 measure / layout / draw 耗时。
+ * 覆盖全部 16 种阴影边、圆角矩形下全部 16 种圆角位置、两种形状、几种阴影大小和控件尺寸、每种缓存方式和每种渲染方式，
+ * 并分别画到软件 canvas（Bitmap）和硬件 canvas（Surface.lockHardwareCanvas，6.0 及以上）上，
+ * 结果（中位数和 p99，单位纳秒）写到 files/fpshadowlayout-benchmark.json，方便对比不同版本和渲染方式。
+ * 硬件 canvas 上 draw 是录制 display list 的耗时，frame 是从提交到这一帧的图像出现在 ImageReader 中的耗时，
+ * 包含 RenderThread 的绘制；超时没有收到的帧记在 frameTimeouts 中，不计入 frame。
+ * view 没有 attach 到窗口，不经过 RenderNode，RENDER_NATIVE 下平台画的阴影不计入。
+ * <p>
+ * 运行：./gradlew :fpshadowlayout:connectedAndroidTest
+ * -Pandroid.testInstrumentationRunnerArguments.class=com.mxy.fpshadowlayout.FpShadowLayoutBenchmark
+ * 可以通过 iterations、warmup 参数调整每种组合的测量次数，canvas 参数（software / hardware）只测其中一种。
+ */
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class FpShadowLayoutBenchmark {
+
+    private static final String TAG = "FpShadowBenchmark";
+
+    private static final String REPORT_FILE = "fpshadowlayout-benchmark.json";
+
+    private static final int[] SIDE_FLAGS = {FpShadowLayout.LEFT, FpShadowLayout.TOP, FpShadowLayout.RIGHT, FpShadowLayout.BOTTOM};
+
+    private static final int[] CORNER_FLAGS = {FpShadowLayout.CORNER_LEFT_TOP, FpShadowLayout.CORNER_LEFT_BOTTOM,
+            FpShadowLayout.CORNER_RIGHT_TOP, FpShadowLayout.CORNER_RIGHT_BOTTOM};
+
+    private static final int[] CACHE_MODES = {FpShadowLayout.CACHE_NONE, FpShadowLayout.CACHE_BITMAP, FpShadowLayout.CACHE_NINE_PATCH};
+
+    private static final int[] RENDER_MODES = {FpShadowLayout.RENDER_AUTO, FpShadowLayout.RENDER_SOFTWARE,
+            FpShadowLayout.RENDER_HARDWARE, FpShadowLayout.RENDER_NATIVE};
+
+    private static final String CANVAS_SOFTWARE = "software";
+
+    private static final String CANVAS_HARDWARE = "hardware";
+
+    //阴影大小，dp
+    private static final int[] RADII = {4, 16};
+
+    //控件尺寸，dp
+    private static final int[][] SIZES = {{120, 80}, {360, 200}};
+
+    //圆角半径，dp
+    private static final int ROUND_RADIUS = 12;
+
+    @Test
+    public void drawMatrix() throws Exception {
+
+        final Context context = InstrumentationRegistry.getTargetContext();
+
+        Bundle arguments = InstrumentationRegistry.getArguments();
+
+        final int iterations = Integer.parseInt(arguments.getString("iterations", "15"));
+
+        final int warmup = Integer.parseInt(arguments.getString("warmup", "3"));
+
+        final float density = context.getResources().getDisplayMetrics().density;
+
+        String canvasArgument = arguments.getString("canvas");
+
+        JSONArray canvases = new JSONArray();
+
+        final JSONArray results = new JSONArray();
+
+        for (final String canvasType : new String[]{CANVAS_SOFTWARE, CANVAS_HARDWARE}) {
+
+            if (canvasArgument != null && !canvasArgument.equals(canvasType)) {
+                continue;
+            }
+
+            //lockHardwareCanvas 需要 6.0
+            if (canvasType.equals(CANVAS_HARDWARE) && Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+                Log.i(TAG, "hardware canvas requires API 23, skipped");
+                continue;
+            }
+
+            canvases.put(canvasType);
+
+            for (final int renderMode : RENDER_MODES) {
+                for (final int cacheMode : CACHE_MODES) {
+                    for (final int[] size : SIZES) {
+                        for (final int radius : RADII) {
+                            for (int sides = 0; sides < 16; sides++) {
+
+                                final int side = toMask(sides, SIDE_FLAGS);
+
+                                //矩形不区分圆角位置
+                                runOnMainSync(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        results.put(runCase(context, density, canvasType, renderMode, cacheMode, size, radius, side,
+                                                FpShadowLayout.SHAPE_RECTANGLE, 0, iterations, warmup));
+                                    }
+                                });
+
+                                for (int corners = 0; corners < 16; corners++) {
+
+                                    final int corner = toMask(corners, CORNER_FLAGS);
+
+                                    runOnMainSync(new Runnable() {
+                                        @Override
+                                        public void run() {
+                                            results.put(runCase(context, density, canvasType, renderMode, cacheMode, size, radius, side,
+                                                    FpShadowLayout.SHAPE_ROUND_RECTANGLE, corner, iterations, warmup));
+                                        }
+                                    });
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        JSONObject report = new JSONObject();
+
+        report.put("version", 2);
+
+        report.put("density", density);
+
+        report.put("iterations", iterations);
+
+        report.put("warmup", warmup);
+
+        report.put("canvases", canvases);
+
+        report.put("results", results);
+
+        File file = new File(context.getFilesDir(), REPORT_FILE);
+
+        writeReport(file, report);
+
+        Log.i(TAG, "report: " + file.getAbsolutePath() + ", cases: " + results.length());
+
+        assertTrue(file.length() > 0);
+    }
+
+    private static JSONObject runCase(Context context, float density, String canvasType, int renderMode, int cacheMode,
+                                      int[] size, int radius, int side, int shape, int corner, int iterations, int warmup) {
+
+        FpShadowLayout layout = new FpShadowLayout(context);
+
+        layout.setRenderMode(renderMode);
+
+        layout.setShadowColor(0x80000000);
+
+        layout.setShadowRadius(radius * density);
+
+        layout.setShadowSide(side);
+
+        layout.setShadowShape(shape);
+
+        layout.setCornerPosition(corner);
+
+        layout.setRoundCornerRadius(ROUND_RADIUS * density);
+
+        layout.setShadowCacheMode(cacheMode);
+
+        View child = new View(context);
+
+        child.setBackgroundColor(0xffffffff);
+
+        layout.addView(child, new FrameLayout.LayoutParams(FrameLayout.LayoutParams.MATCH_PARENT, FrameLayout.LayoutParams.MATCH_PARENT));
+
+        int width = (int) (size[0] * density);
+
+        int height = (int) (size[1] * density);
+
+        int widthSpec = View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY);
+
+        int heightSpec = View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY);
+
+        boolean hardware = canvasType.equals(CANVAS_HARDWARE);
+
+        Bitmap bitmap = hardware ? null : Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+
+        Canvas softwareCanvas = hardware ? null : new Canvas(bitmap);
+
+        HardwareTarget target = hardware ? new HardwareTarget(width, height) : null;
+
+        long[] measure = new long[iterations];
+
+        long[] layoutTimes = new long[iterations];
+
+        long[] draw = new long[iterations];
+
+        long[] frame = new long[iterations];
+
+        int frameTimeouts = 0;
+
+        for (int i = -warmup; i < iterations; i++) {
+
+            layout.forceLayout();
+
+            long start = System.nanoTime();
+
+            layout.measure(widthSpec, heightSpec);
+
+            long measured = System.nanoTime();
+
+            layout.layout(0, 0, width, height);
+
+            long laidOut = System.nanoTime();
+
+            Canvas canvas = hardware ? target.lock() : softwareCanvas;
+
+            long locked = System.nanoTime();
+
+            layout.draw(canvas);
+
+            long drawn = System.nanoTime();
+
+            boolean presented = !hardware || target.post(canvas);
+
+            long posted = System.nanoTime();
+
+            if (i >= 0) {
+
+                measure[i] = measured - start;
+
+                layoutTimes[i] = laidOut - measured;
+
+                draw[i] = drawn - locked;
+
+                frame[i] = posted - drawn;
+
+                if (!presented) {
+                    frameTimeouts++;
+                }
+            }
+        }
+
+        if (hardware) {
+            target.release();
+        } else {
+            bitmap.recycle();
+        }
+
+        try {
+
+            JSONObject result = new JSONObject();
+
+            result.put("canvas", canvasType);
+
+            result.put("renderMode", renderMode);
+
+            result.put("nativeShadow", layout.isNativeShadow());
+
+            result.put("cacheMode", cacheMode);
+
+            result.put("widthDp", size[0]);
+
+            result.put("heightDp", size[1]);
+
+            result.put("radiusDp", radius);
+
+            result.put("side", side);
+
+            result.put("shape", shape);
+
+            result.put("corner", corner);
+
+            result.put("measure", stats(measure));
+
+            result.put("layout", stats(layoutTimes));
+
+            result.put("draw", stats(draw));
+
+            if (hardware) {
+
+                result.put("frame", stats(frameTimeouts == 0 ? frame : withoutTimeouts(frame, frameTimeouts)));
+
+                result.put("frameTimeouts", frameTimeouts);
+            }
+
+            return result;
+
+        } catch (JSONException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JSONObject stats(long[] samples) throws JSONException {
+
+        long[] sorted = samples.clone();
+
+        Arrays.sort(sorted);
+
+        JSONObject stats = new JSONObject();
+
+        stats.put("median", percentile(sorted, 0.5));
+
+        stats.put("p99", percentile(sorted, 0.99));
+
+        return stats;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static int toMask(int bits, int[] flags) {
+
+        int mask = 0;
+
+        for (int i = 0; i < flags.length; i++) {
+            if ((bits & (1 << i)) != 0) {
+                mask |= flags[i];
+            }
+        }
+
+        return mask;
+    }
+
+    private static void runOnMainSync(Runnable runnable) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(runnable);
+    }
+
+    /**
+     * 超时的帧耗时不准确，统计时去掉
+     */
+    private static long[] withoutTimeouts(long[] frame, int timeouts) {
+
+        long[] sorted = frame.clone();
+
+        Arrays.sort(sorted);
+
+        //超时的帧至少等待了 FRAME_TIMEOUT_MS，一定是最大的几个
+        return Arrays.copyOf(sorted, Math.max(1, sorted.length - timeouts));
+    }
+
+    /**
+     * 硬件加速的离屏 canvas。图像在后台线程的回调中取走并关闭，不会因为缓冲区满而阻塞，
+     * 提交后等到这一帧的图像出现才返回，所以 frame 包含 RenderThread 画完这一帧的时间
+     */
+    private static final class HardwareTarget {
+
+        private static final long FRAME_TIMEOUT_MS = 1000;
+
+        private final HandlerThread mThread = new HandlerThread("FpShadowBenchmark-image");
+
+        private final ImageReader mReader;
+
+        private final Surface mSurface;
+
+        //每收到一帧图像释放一次
+        private final Semaphore mFrames = new Semaphore(0);
+
+        HardwareTarget(int width, int height) {
+
+            mThread.start();
+
+            mReader = ImageReader.newInstance(width, height, PixelFormat.RGBA_8888, 2);
+
+            mReader.setOnImageAvailableListener(new ImageReader.OnImageAvailableListener() {
+                @Override
+                public void onImageAvailable(ImageReader reader) {
+
+                    Image image;
+
+                    while ((image = reader.acquireNextImage()) != null) {
+
+                        image.close();
+
+                        mFrames.release();
+                    }
+
+                }
+            }, new Handler(mThread.getLooper()));
+
+            mSurface = mReader.getSurface();
+
+        }
+
+        Canvas lock() {
+
+            //之前超时的帧可能晚到，不能算到这一帧上
+            mFrames.drainPermits();
+
+            return mSurface.lockHardwareCanvas();
+        }
+
+        /**
+         * 提交这一帧，等这一帧的图像出现后返回
+         * @return false 表示超时没有收到
+         */
+        boolean post(Canvas canvas) {
+
+            mSurface.unlockCanvasAndPost(canvas);
+
+            try {
+                return mFrames.tryAcquire(FRAME_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void release() {
+
+            mSurface.release();
+
+            mReader.close();
+
+            mThread.quitSafely();
+
+        }
+    }
+
+    private static void writeReport(File file, JSONObject report) throws IOException, JSONException {
+
+        FileOutputStream out = new FileOutputStream(file);
+
+        try {
+            out.write(report.toString(2).getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.mxy.fpshadowlayout;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+/**
+ * 给所有直接子 view 绘制阴影的容器，不需要再给每个子 view 包一层 FpShadowLayout。
+ * 阴影属性写在子 view 上，与 FpShadowLayout 的属性相同（app:fp_shadowRadius 等），只有设置了 fp_shadowRadius 的子 view 才有阴影。
+ * 阴影画在子 view 的外侧，需要通过 margin 给阴影留出空间。所有阴影在 dispatchDraw 中、子 view 之前一次画完。
+ */
+public class FpShadowContainer extends FrameLayout {
+
+    //子 view 不设置 fp_shadowRoundRadius 时的默认值，与 FpShadowLayout 不同。
+    //fp-shadow-specs.gradle 中容器子 view 的默认圆角半径按这个值生成，修改时两边一起改
+    static final float DEFAULT_SHADOW_RADIUS = 0;
+
+    public FpShadowContainer(@NonNull Context context) {
+        this(context, null);
+    }
+
+    public FpShadowContainer(@NonNull Context context, @Nullable AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public FpShadowContainer(@NonNull Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+    }
+
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+
+        int count = getChildCount();
+
+        for (int i = 0; i < count; i++) {
+
+            View child = getChildAt(i);
+
+            FpShadowDrawable shadow = getShadow(child);
+
+            if (shadow == null || child.getVisibility() != VISIBLE) {
+                continue;
+            }
+
+            if (shadow.getCallback() != this) {
+                shadow.setCallback(this);
+            }
+
+            //阴影的内容区域就是子 view 的位置，setBounds 在位置不变时什么也不做
+            shadow.setBounds(child.getLeft() - shadow.getInsetLeft(), child.getTop() - shadow.getInsetTop(),
+                    child.getRight() + shadow.getInsetRight(), child.getBottom() + shadow.getInsetBottom());
+
+            shadow.draw(canvas);
+        }
+
+        super.dispatchDraw(canvas);
+
+    }
+
+    @Override
+    protected boolean verifyDrawable(@NonNull Drawable who) {
+
+        if (who instanceof FpShadowDrawable) {
+
+            int count = getChildCount();
+
+            for (int i = 0; i < count; i++) {
+                if (getShadow(getChildAt(i)) == who) {
+                    return true;
+                }
+            }
+        }
+
+        return super.verifyDrawable(who);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        int count = getChildCount();
+
+        for (int i = 0; i < count; i++) {
+
+            FpShadowDrawable shadow = getShadow(getChildAt(i));
+
+            if (shadow != null) {
+                shadow.cancelPendingRenderAndReset();
+            }
+        }
+
+    }
+
+    @Override
+    public void onViewRemoved(View child) {
+        super.onViewRemoved(child);
+
+        FpShadowDrawable shadow = getShadow(child);
+
+        if (shadow != null) {
+            shadow.cancelPendingRenderAndReset();
+        }
+
+        invalidate();
+
+    }
+
+    @Nullable
+    private static FpShadowDrawable getShadow(View child) {
+
+        ViewGroup.LayoutParams params = child.getLayoutParams();
+
+        return params instanceof LayoutParams ? ((LayoutParams) params).getShadowDrawable() : null;
+    }
+
+    @Override
+    protected boolean checkLayoutParams(ViewGroup.LayoutParams p) {
+        return p instanceof LayoutParams;
+    }
+
+    @Override
+    public LayoutParams generateLayoutParams(AttributeSet attrs) {
+        return new LayoutParams(getContext(), attrs);
+    }
+
+    @Override
+    protected LayoutParams generateLayoutParams(ViewGroup.LayoutParams p) {
+
+        if (p instanceof LayoutParams) {
+            return new LayoutParams((LayoutParams) p);
+        }
+
+        if (p instanceof MarginLayoutParams) {
+            return new LayoutParams((MarginLayoutParams) p);
+        }
+
+        return new LayoutParams(p);
+    }
+
+    @Override
+    protected LayoutParams generateDefaultLayoutParams() {
+        return new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT);
+    }
+
+    /**
+     * 带阴影参数的 LayoutParams
+     */
+    public static class LayoutParams extends FrameLayout.LayoutParams {
+
+        private FpShadowDrawable mShadowDrawable;
+
+        public LayoutParams(Context c, AttributeSet attrs) {
+            super(c, attrs);
+
+            TypedArray typedArray = c.obtainStyledAttributes(attrs, R.styleable.Fp_ShadowLayout);
+
+            if (typedArray != null) {
+
+                if (typedArray.hasValue(R.styleable.Fp_ShadowLayout_fp_shadowRadius)) {
+
+                    mShadowDrawable = new FpShadowDrawable();
+
+                    mShadowDrawable.loadAttributes(typedArray, c.getResources().getColor(android.R.color.black), DEFAULT_SHADOW_RADIUS);
+
+                }
+
+                typedArray.recycle();
+
+            }
+        }
+
+        public LayoutParams(int width, int height) {
+            super(width, height);
+        }
+
+        public LayoutParams(ViewGroup.LayoutParams source) {
+            super(source);
+        }
+
+        public LayoutParams(MarginLayoutParams source) {
+            super(source);
+        }
+
+        /**
+         * 复制时共用同一个阴影
+         */
+        public LayoutParams(LayoutParams source) {
+            super(source);
+
+            mShadowDrawable = source.mShadowDrawable;
+
+        }
+
+        /**
+         * @return 没有阴影时返回 null
+         */
+        @Nullable
+        public FpShadowDrawable getShadowDrawable() {
+            return mShadowDrawable;
+        }
+
+        /**
+         * 按 ShadowSpec 设置阴影，没有阴影时创建一个，同一个 spec 重复设置什么也不做。
+         * 修改后需要调用容器的 invalidate
+         */
+        public void setShadowSpec(@NonNull ShadowSpec spec) {
+
+            if (mShadowDrawable == null) {
+                mShadowDrawable = new FpShadowDrawable();
+            }
+
+            mShadowDrawable.setShadowSpec(spec);
+
+        }
+
+        /**
+         * 设置阴影，修改后需要调用子 view 的 requestLayout 或容器的 invalidate
+         * @param shadowDrawable null 表示没有阴影
+         */
+        public void setShadowDrawable(@Nullable FpShadowDrawable shadowDrawable) {
+            mShadowDrawable = shadowDrawable;
+        }
+    }
+}
@@ -0,0 +1,1200 @@
+package com.mxy.fpshadowlayout;
+
+import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
+import android.util.Property;
+
+import static com.mxy.fpshadowlayout.FpShadowLayout.ALL;
+import static com.mxy.fpshadowlayout.FpShadowLayout.BOTTOM;
+import static com.mxy.fpshadowlayout.FpShadowLayout.CACHE_BITMAP;
+import static com.mxy.fpshadowlayout.FpShadowLayout.CACHE_NINE_PATCH;
+import static com.mxy.fpshadowlayout.FpShadowLayout.CACHE_NONE;
+import static com.mxy.fpshadowlayout.FpShadowLayout.CORNER_ALL;
+import static com.mxy.fpshadowlayout.FpShadowLayout.FALLOFF_LINEAR;
+import static com.mxy.fpshadowlayout.FpShadowLayout.LEFT;
+import static com.mxy.fpshadowlayout.FpShadowLayout.RIGHT;
+import static com.mxy.fpshadowlayout.FpShadowLayout.SHAPE_ROUND_RECTANGLE;
+import static com.mxy.fpshadowlayout.FpShadowLayout.SHAPE_RECTANGLE;
+import static com.mxy.fpshadowlayout.FpShadowLayout.TOP;
+
+/**
+ * 与 FpShadowLayout 相同的阴影，以 Drawable 的形式提供。
+ * 可以直接设置为任意 view 的 background / foreground，不需要再额外包一层 ViewGroup。
+ * 阴影画在 bounds 的四周，{@link #getPadding(Rect)} 返回阴影占用的空间，作为 background 时 view 的内容会避开阴影。
+ * 参数中的常量与 {@link FpShadowLayout} 相同。
+ */
+public class FpShadowDrawable extends Drawable {
+
+    //角的顺序：左上、右上、右下、左下
+    private static final int[] CORNER_FLAGS = {FpShadowLayout.CORNER_LEFT_TOP, FpShadowLayout.CORNER_RIGHT_TOP,
+            FpShadowLayout.CORNER_RIGHT_BOTTOM, FpShadowLayout.CORNER_LEFT_BOTTOM};
+
+    //属性动画的最后一帧之后多久按最终参数重新渲染缓存，毫秒
+    private static final long ANIMATION_SETTLE_DELAY = 100;
+
+    /**
+     * 阴影大小的属性，用于 ObjectAnimator。
+     * 动画期间缓存的阴影按比例缩放绘制，不重新渲染，阴影占用的空间保持不变，阴影可以画到原来的范围之外，
+     * 动画停止后再按最终大小渲染，并更新 {@link #getPadding(Rect)}
+     */
+    public static final Property<FpShadowDrawable, Float> SHADOW_RADIUS = new Property<FpShadowDrawable, Float>(Float.class, "shadowRadius") {
+        @Override
+        public Float get(FpShadowDrawable drawable) {
+            return drawable.getShadowRadius();
+        }
+
+        @Override
+        public void set(FpShadowDrawable drawable, Float value) {
+            drawable.animateShadowRadius(value);
+        }
+    };
+
+    /**
+     * 阴影颜色的属性，用于 ObjectAnimator，需要配合 ArgbEvaluator。
+     * 缓存的阴影是遮罩，颜色变化只需要修改画笔颜色，不重新渲染
+     */
+    public static final Property<FpShadowDrawable, Integer> SHADOW_COLOR = new Property<FpShadowDrawable, Integer>(Integer.class, "shadowColor") {
+        @Override
+        public Integer get(FpShadowDrawable drawable) {
+            return drawable.getShadowColor();
+        }
+
+        @Override
+        public void set(FpShadowDrawable drawable, Integer value) {
+            drawable.animateShadowColor(value);
+        }
+    };
+
+    //预先生成的阴影绘制计划
+    private final ShadowPlan mShadowPlan = new ShadowPlan();
+
+    private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    //绘制缓存的遮罩，画笔颜色就是阴影颜色
+    private final Paint mBitmapPaint = new Paint();
+
+    //填充扩展、偏移露出的部分，颜色与 mBitmapPaint 相同，圆角边缘需要抗锯齿
+    private final Paint mSpreadPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    //setAlpha 设置的透明度，与阴影颜色的透明度叠加
+    private int mAlpha = 255;
+
+    //阴影大小或颜色是否正在做属性动画
+    private boolean mAnimating = false;
+
+    //动画停止后按最终参数更新阴影占用的空间并重新渲染
+    private final Runnable mSettleRunnable = new Runnable() {
+        @Override
+        public void run() {
+
+            mAnimating = false;
+
+            updateShadowInsets();
+
+            onShadowChanged();
+
+            invalidateSelf();
+
+            if (mOnInsetsChangedListener != null) {
+                mOnInsetsChangedListener.onInsetsChanged();
+            }
+
+        }
+    };
+
+    private OnInsetsChangedListener mOnInsetsChangedListener;
+
+    //阴影颜色
+    private int mShadowColor = Color.TRANSPARENT;
+
+    //阴影大小
+    private float mShadowRadius = 0;
+
+    //阴影所在的边
+    private int mShadowSide = ALL;
+
+    //圆角所在位置
+    private int mCornerPosition = CORNER_ALL;
+
+    //形状，圆角矩形 / 矩形
+    private int mShadowShape = SHAPE_RECTANGLE;
+
+    private float mRoundCornerRadius = 0;
+
+    //每个角单独设置的圆角半径，顺序：左上、右上、右下、左下
+    private final float[] mRoundCornerRadii = new float[4];
+
+    //实际使用的圆角半径，已经合并了形状和圆角位置，直角为 0
+    private final float[] mCornerRadii = new float[4];
+
+    //自定义形状
+    private Path mShadowPath;
+
+    //最近一次设置或取出的 ShadowSpec，参数单独修改后失效
+    private ShadowSpec mShadowSpec;
+
+    //阴影变淡的曲线
+    private int mShadowFalloff = FALLOFF_LINEAR;
+
+    //阴影偏移和扩展
+    private float mShadowDx, mShadowDy, mShadowSpread;
+
+    //drawable 的尺寸
+    private int mBoundsWidth, mBoundsHeight;
+
+    //阴影区域相对 bounds 的位置和尺寸。没有偏移和扩展时就是整个 bounds，
+    //否则是内容区域扩展、平移后再加上阴影大小，缓存的阴影直接平移、拉伸到这里
+    private int mShadowLeft, mShadowTop;
+
+    private int mWidth, mHeight;
+
+    //扩展、偏移后阴影与内容之间露出的部分，用阴影颜色填满
+    private final Path mSpreadPath = new Path();
+
+    private boolean mSpreadFill = false;
+
+    private final RectF mTempRect = new RectF();
+
+    private final Rect mTempSrc = new Rect();
+
+    private final float[] mTempRadii = new float[8];
+
+    //阴影占用的四周空间
+    private final Rect mInsets = new Rect();
+
+    //阴影缓存方式
+    private int mShadowCacheMode = CACHE_NONE;
+
+    //实际使用的缓存方式，需要独立的阴影图层时不缓存会改为 CACHE_BITMAP
+    private int mCacheModeInUse = CACHE_NONE;
+
+    //是否必须把阴影渲染到独立的图片中，见 setShadowSurfaceRequired
+    private boolean mShadowSurfaceRequired = false;
+
+    //绘制计划是否需要重新生成
+    private boolean mShadowPlanDirty = true;
+
+    private Bitmap mShadowBitmap;
+
+    //mShadowBitmap 对应的阴影参数
+    private final ShadowKey mShadowBitmapKey = new ShadowKey();
+
+    private ShadowNinePatch mShadowNinePatch;
+
+    //mShadowNinePatch 对应的阴影参数，不包含尺寸
+    private final ShadowKey mShadowNinePatchKey = new ShadowKey();
+
+    private final RectF mShadowBounds = new RectF();
+
+    //是否在后台线程渲染缓存的阴影
+    private boolean mShadowAsync = false;
+
+    //正在后台渲染的任务
+    private ShadowRenderTask mPendingRenderTask;
+
+    private final FpShadowRenderStats mRenderStats = new FpShadowRenderStats();
+
+    //是否统计绘制耗时
+    private boolean mRenderTimingEnabled = false;
+
+    private final ShadowRenderTask.Callback mRenderCallback = new ShadowRenderTask.Callback() {
+        @Override
+        public void onShadowRendered(ShadowRenderTask task, Object result, FpShadowRenderStats stats) {
+
+            mRenderStats.addRenders(stats);
+
+            if (task != mPendingRenderTask) {
+                return;
+            }
+
+            mPendingRenderTask = null;
+
+            if (task.cacheMode == CACHE_NINE_PATCH) {
+                if (task.key.equals(mShadowNinePatchKey)) {
+                    mShadowNinePatch = (ShadowNinePatch) result;
+                }
+            } else if (task.key.equals(mShadowBitmapKey)) {
+                mShadowBitmap = (Bitmap) result;
+            }
+
+            invalidateSelf();
+
+        }
+    };
+
+    public FpShadowDrawable() {
+
+        updateShadowInsets();
+
+        updateMaskColor();
+
+    }
+
+    /**
+     * 读取 Fp_ShadowLayout 中的阴影属性，FpShadowLayout 和 FpShadowContainer 的子 view 共用
+     * @param defaultColor 没有设置 fp_shadowColor 时的颜色
+     * @param defaultRadius 没有设置 fp_shadowRadius、fp_shadowRoundRadius 时的大小
+     */
+    void loadAttributes(TypedArray typedArray, int defaultColor, float defaultRadius) {
+
+        setShadowColor(typedArray.getColor(R.styleable.Fp_ShadowLayout_fp_shadowColor, defaultColor));
+
+        setShadowRadius(typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowRadius, defaultRadius));
+
+        float roundRadius = typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowRoundRadius, defaultRadius);
+
+        //单独设置的角覆盖 fp_shadowRoundRadius
+        setRoundCornerRadii(
+                typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowRoundRadiusLeftTop, roundRadius),
+                typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowRoundRadiusRightTop, roundRadius),
+                typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowRoundRadiusRightBottom, roundRadius),
+                typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowRoundRadiusLeftBottom, roundRadius));
+
+        mRoundCornerRadius = roundRadius;
+
+        setShadowSide(typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_shadowSide, ALL));
+
+        setShadowShape(typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_shadowShape, SHAPE_RECTANGLE));
+
+        setCornerPosition(typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_round_corner, CORNER_ALL));
+
+        setShadowFalloff(typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_shadowFalloff, FALLOFF_LINEAR));
+
+        setShadowOffset(typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowDx, 0),
+                typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowDy, 0));
+
+        setShadowSpread(typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowSpread, 0));
+
+        setShadowCacheMode(typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_shadowCache, CACHE_NONE));
+
+        setShadowAsync(typedArray.getBoolean(R.styleable.Fp_ShadowLayout_fp_shadowAsync, false));
+
+    }
+
+    @Override
+    protected void onBoundsChange(Rect bounds) {
+        super.onBoundsChange(bounds);
+
+        mBoundsWidth = bounds.width();
+
+        mBoundsHeight = bounds.height();
+
+        updateShadowGeometry();
+
+        onShadowChanged();
+
+    }
+
+    @Override
+    public void draw(Canvas canvas) {
+
+        mRenderStats.drawCount++;
+
+        if (mRenderTimingEnabled) {
+
+            long start = System.nanoTime();
+
+            drawShadow(canvas);
+
+            mRenderStats.onDrawTimed(System.nanoTime() - start);
+
+        } else {
+
+            drawShadow(canvas);
+
+        }
+
+    }
+
+    private void drawShadow(Canvas canvas) {
+
+        Rect bounds = getBounds();
+
+        if (mSpreadFill) {
+            canvas.save();
+            canvas.translate(bounds.left, bounds.top);
+            canvas.drawPath(mSpreadPath, mSpreadPaint);
+            canvas.restore();
+        }
+
+        int left = bounds.left + mShadowLeft;
+
+        int top = bounds.top + mShadowTop;
+
+        boolean translate = left != 0 || top != 0;
+
+        if (translate) {
+            canvas.save();
+            canvas.translate(left, top);
+        }
+
+        if (mAnimating && mCacheModeInUse != CACHE_NONE) {
+
+            //动画期间变换已有的缓存，没有可用的缓存时直接绘制，不在每一帧重新渲染缓存
+            if (!drawAnimatedCache(canvas)) {
+                ensureShadowPlan();
+                mShadowPlan.draw(canvas, mPaint);
+            }
+
+        } else if (mCacheModeInUse == CACHE_BITMAP) {
+
+            updateShadowCache();
+
+            //后台渲染完成前什么也不画
+            if (mShadowBitmap != null) {
+                canvas.drawBitmap(mShadowBitmap, 0, 0, mBitmapPaint);
+            }
+
+        } else if (mCacheModeInUse == CACHE_NINE_PATCH && drawNinePatch(canvas)) {
+
+            //已经用九宫格画完
+
+        } else {
+
+            ensureShadowPlan();
+
+            mShadowPlan.draw(canvas, mPaint);
+
+        }
+
+        if (translate) {
+            canvas.restore();
+        }
+
+    }
+
+    /**
+     * @return false 表示控件比四个角还小，需要退回到直接绘制
+     */
+    private boolean drawNinePatch(Canvas canvas) {
+
+        updateShadowCache();
+
+        if (mShadowNinePatch == null) {
+            return true;
+        }
+
+        if (!mShadowNinePatch.canDraw(mWidth, mHeight)) {
+            return false;
+        }
+
+        mShadowNinePatch.draw(canvas, mShadowBounds, mBitmapPaint);
+
+        return true;
+    }
+
+    /**
+     * 用已有的缓存近似绘制动画中的阴影，四周按阴影大小的比例缩放，中间拉伸
+     * @return false 表示没有可用的缓存
+     */
+    private boolean drawAnimatedCache(Canvas canvas) {
+
+        if (mShadowRadius <= 0) {
+            return true;
+        }
+
+        ShadowKey key = mCacheModeInUse == CACHE_NINE_PATCH ? mShadowNinePatchKey : mShadowBitmapKey;
+
+        //除尺寸和阴影大小外其他参数都要相同
+        if (key.shadowRadius <= 0 || !key.matches(key.width, key.height, key.shadowRadius,
+                mCornerRadii, mShadowSide, mShadowShape, mShadowFalloff, mShadowPath)) {
+            return false;
+        }
+
+        if (mCacheModeInUse == CACHE_NINE_PATCH) {
+
+            float scale = mShadowRadius / key.shadowRadius;
+
+            if (mShadowNinePatch == null || !mShadowNinePatch.canDraw(mWidth / scale, mHeight / scale)) {
+                return false;
+            }
+
+            mShadowNinePatch.draw(canvas, mShadowBounds, mBitmapPaint, scale);
+
+            return true;
+        }
+
+        //椭圆、圆形和自定义形状的阴影直接拉伸
+        if (ShadowRenderer.isShape(mShadowShape)) {
+
+            if (mShadowBitmap == null) {
+                return false;
+            }
+
+            canvas.drawBitmap(mShadowBitmap, null, mShadowBounds, mBitmapPaint);
+
+            return true;
+        }
+
+        if (mShadowBitmap == null) {
+            return false;
+        }
+
+        float scale = mShadowRadius / key.shadowRadius;
+
+        float[] radii = key.cornerRadii;
+
+        //完整的遮罩中四个角占用的宽度，与九宫格相同
+        int slice = (int) Math.ceil(key.shadowRadius + Math.max(Math.max(radii[0], radii[1]), Math.max(radii[2], radii[3])));
+
+        if (key.width >= 2 * slice && key.height >= 2 * slice && mWidth >= 2 * slice * scale && mHeight >= 2 * slice * scale) {
+            ShadowNinePatch.drawSliced(canvas, mShadowBitmap, slice, mShadowBounds, mBitmapPaint, scale, mTempSrc, mTempRect);
+        } else {
+            canvas.drawBitmap(mShadowBitmap, null, mShadowBounds, mBitmapPaint);
+        }
+
+        return true;
+    }
+
+    /**
+     * 遮罩的颜色来自画笔，阴影颜色的透明度与 setAlpha 叠加
+     */
+    private void updateMaskColor() {
+
+        int alpha = Color.alpha(mShadowColor) * mAlpha / 255;
+
+        mBitmapPaint.setColor(Color.argb(alpha, Color.red(mShadowColor), Color.green(mShadowColor), Color.blue(mShadowColor)));
+
+        mSpreadPaint.setColor(mBitmapPaint.getColor());
+
+    }
+
+    /**
+     * 阴影参数或尺寸变化。不缓存时马上生成绘制计划，缓存时等到需要时再生成，
+     * 后台渲染时尺寸一确定就开始渲染
+     */
+    private void onShadowChanged() {
+
+        mShadowPlanDirty = true;
+
+        if (mCacheModeInUse == CACHE_NONE) {
+            ensureShadowPlan();
+        } else if (mShadowAsync && mWidth > 0 && mHeight > 0) {
+            updateShadowCache();
+        }
+
+    }
+
+    /**
+     * 根据当前尺寸和阴影参数生成绘制计划，绘制时直接复用
+     */
+    private void ensureShadowPlan() {
+
+        if (!mShadowPlanDirty) {
+            return;
+        }
+
+        mShadowPlanDirty = false;
+
+        ShadowPlanCompiler.compile(mShadowPlan, mShadowSide, mShadowRadius, mCornerRadii,
+                mShadowFalloff, mShadowColor, mWidth, mHeight);
+
+        mRenderStats.onPlanCompiled(mShadowPlan.size());
+
+    }
+
+    /**
+     * 当前参数与缓存的阴影不一致时重新获取。
+     * Bitmap 与控件同尺寸；九宫格只和阴影参数有关，尺寸变化时不需要重新渲染。
+     * 渲染结果放在进程共享的缓存里，相同参数的控件直接复用
+     */
+    private void updateShadowCache() {
+
+        ShadowKey key;
+
+        if (mCacheModeInUse == CACHE_NINE_PATCH) {
+
+            if (mShadowNinePatchKey.matches(0, 0, mShadowRadius,
+                    mCornerRadii, mShadowSide, mShadowShape, mShadowFalloff, mShadowPath)) {
+                return;
+            }
+
+            key = mShadowNinePatchKey;
+
+            key.set(0, 0, mShadowRadius, mCornerRadii, mShadowSide, mShadowShape, mShadowFalloff, mShadowPath);
+
+            mShadowNinePatch = mShadowAsync ? ShadowCache.getNinePatch(key) : ShadowRenderer.obtainNinePatch(key, mRenderStats);
+
+            if (mShadowNinePatch != null || !mShadowAsync) {
+                cancelPendingRender();
+                return;
+            }
+
+        } else {
+
+            if (mShadowBitmapKey.matches(mWidth, mHeight, mShadowRadius,
+                    mCornerRadii, mShadowSide, mShadowShape, mShadowFalloff, mShadowPath)) {
+                return;
+            }
+
+            key = mShadowBitmapKey;
+
+            key.set(mWidth, mHeight, mShadowRadius, mCornerRadii, mShadowSide, mShadowShape, mShadowFalloff, mShadowPath);
+
+            mShadowBitmap = mShadowAsync ? ShadowCache.getBitmap(key) : ShadowRenderer.obtainBitmap(key, mRenderStats);
+
+            if (mShadowBitmap != null || !mShadowAsync) {
+                cancelPendingRender();
+                return;
+            }
+        }
+
+        if (mShadowRadius <= 0 || (mCacheModeInUse == CACHE_BITMAP && (mWidth <= 0 || mHeight <= 0))) {
+            cancelPendingRender();
+            return;
+        }
+
+        //缓存中没有，交给后台线程渲染，之前没完成的任务已经过期
+        cancelPendingRender();
+
+        mPendingRenderTask = new ShadowRenderTask(key, mCacheModeInUse, mRenderCallback);
+
+        ShadowRenderTask.execute(mPendingRenderTask);
+
+    }
+
+    private void cancelPendingRender() {
+
+        if (mPendingRenderTask != null) {
+            mPendingRenderTask.cancel();
+            mPendingRenderTask = null;
+        }
+
+    }
+
+    /**
+     * 不再显示时取消后台渲染，再次显示时按当前参数重新请求
+     */
+    void cancelPendingRenderAndReset() {
+
+        if (mPendingRenderTask != null) {
+            cancelPendingRender();
+            mShadowBitmapKey.clear();
+            mShadowNinePatchKey.clear();
+        }
+
+    }
+
+    @Override
+    public boolean setVisible(boolean visible, boolean restart) {
+
+        if (!visible) {
+            cancelPendingRenderAndReset();
+        }
+
+        return super.setVisible(visible, restart);
+    }
+
+    /**
+     * 阴影占用的四周空间，偏移方向一侧加宽，另一侧变窄
+     */
+    private void updateShadowInsets() {
+
+        updateCornerRadii();
+
+        float extent = mShadowRadius + mShadowSpread;
+
+        int left = (mShadowSide & LEFT) == LEFT ? Math.max(0, (int) (extent - mShadowDx)) : 0;
+
+        int top = (mShadowSide & TOP) == TOP ? Math.max(0, (int) (extent - mShadowDy)) : 0;
+
+        int right = (mShadowSide & RIGHT) == RIGHT ? Math.max(0, (int) (extent + mShadowDx)) : 0;
+
+        int bottom = (mShadowSide & BOTTOM) == BOTTOM ? Math.max(0, (int) (extent + mShadowDy)) : 0;
+
+        mInsets.set(left, top, right, bottom);
+
+        updateShadowGeometry();
+
+    }
+
+    /**
+     * 计算阴影区域：内容区域在有阴影的边上扩展 spread，平移 (dx, dy)，再加上阴影大小。
+     * 绘制计划、缓存都按阴影区域的尺寸生成，没有偏移和扩展时与原来完全相同，可以共用缓存
+     */
+    private void updateShadowGeometry() {
+
+        float r = mShadowRadius;
+
+        float s = mShadowSpread;
+
+        boolean left = (mShadowSide & LEFT) == LEFT;
+
+        boolean top = (mShadowSide & TOP) == TOP;
+
+        boolean right = (mShadowSide & RIGHT) == RIGHT;
+
+        boolean bottom = (mShadowSide & BOTTOM) == BOTTOM;
+
+        float contentLeft = mInsets.left;
+
+        float contentTop = mInsets.top;
+
+        float contentRight = mBoundsWidth - mInsets.right;
+
+        float contentBottom = mBoundsHeight - mInsets.bottom;
+
+        float boxLeft = contentLeft - (left ? s : 0) + mShadowDx;
+
+        float boxTop = contentTop - (top ? s : 0) + mShadowDy;
+
+        float boxRight = contentRight + (right ? s : 0) + mShadowDx;
+
+        float boxBottom = contentBottom + (bottom ? s : 0) + mShadowDy;
+
+        mShadowLeft = Math.round(boxLeft - (left ? r : 0));
+
+        mShadowTop = Math.round(boxTop - (top ? r : 0));
+
+        mWidth = Math.max(0, Math.round(boxRight + (right ? r : 0)) - mShadowLeft);
+
+        mHeight = Math.max(0, Math.round(boxBottom + (bottom ? r : 0)) - mShadowTop);
+
+        mShadowBounds.set(0, 0, mWidth, mHeight);
+
+        //阴影从扩展后的区域外才开始，中间这一圈直接填充阴影颜色
+        mSpreadFill = (s > 0 || mShadowDx != 0 || mShadowDy != 0) && mShadowSide != 0
+                && !ShadowRenderer.isShape(mShadowShape)
+                && contentRight > contentLeft && contentBottom > contentTop;
+
+        mSpreadPath.reset();
+
+        if (mSpreadFill) {
+
+            for (int i = 0; i < 4; i++) {
+                mTempRadii[2 * i] = mTempRadii[2 * i + 1] = mCornerRadii[i];
+            }
+
+            mSpreadPath.setFillType(Path.FillType.EVEN_ODD);
+
+            mTempRect.set(boxLeft, boxTop, boxRight, boxBottom);
+
+            mSpreadPath.addRoundRect(mTempRect, mTempRadii, Path.Direction.CW);
+
+            mTempRect.set(contentLeft, contentTop, contentRight, contentBottom);
+
+            mSpreadPath.addRoundRect(mTempRect, mTempRadii, Path.Direction.CW);
+
+        }
+
+    }
+
+    /**
+     * 合并形状、圆角位置和每个角的圆角半径，得到实际使用的圆角半径
+     */
+    private void updateCornerRadii() {
+        foldCornerRadii(mCornerRadii, mRoundCornerRadii, mShadowShape, mCornerPosition);
+    }
+
+    /**
+     * 把形状和圆角位置合并到每个角的圆角半径中，不是圆角的角为 0
+     * @param out 顺序：左上、右上、右下、左下
+     */
+    static void foldCornerRadii(float[] out, float[] roundCornerRadii, int shape, int cornerPosition) {
+
+        boolean round = shape == SHAPE_ROUND_RECTANGLE;
+
+        for (int i = 0; i < 4; i++) {
+            out[i] = round && (cornerPosition & CORNER_FLAGS[i]) != 0 ? Math.max(0, roundCornerRadii[i]) : 0;
+        }
+
+    }
+
+    /**
+     * 阴影占用的四周空间。作为 background 时，阴影大小或所在的边变化后需要重新设置 background 才会更新 view 的 padding
+     */
+    @Override
+    public boolean getPadding(Rect padding) {
+
+        padding.set(mInsets);
+
+        return mInsets.left != 0 || mInsets.top != 0 || mInsets.right != 0 || mInsets.bottom != 0;
+    }
+
+    int getInsetLeft() {
+        return mInsets.left;
+    }
+
+    int getInsetTop() {
+        return mInsets.top;
+    }
+
+    int getInsetRight() {
+        return mInsets.right;
+    }
+
+    int getInsetBottom() {
+        return mInsets.bottom;
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+
+        mAlpha = alpha;
+
+        mPaint.setAlpha(alpha);
+
+        updateMaskColor();
+
+        invalidateSelf();
+
+    }
+
+    @Override
+    public void setColorFilter(ColorFilter colorFilter) {
+
+        mPaint.setColorFilter(colorFilter);
+
+        mBitmapPaint.setColorFilter(colorFilter);
+
+        mSpreadPaint.setColorFilter(colorFilter);
+
+        invalidateSelf();
+
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+
+    /**
+     * 一次设置全部阴影参数，只重新计算一次。
+     * 与当前是同一个对象时什么也不做，列表中重新绑定同一个 spec 没有开销
+     */
+    public void setShadowSpec(ShadowSpec spec) {
+
+        if (spec == mShadowSpec) {
+            return;
+        }
+
+        mShadowColor = spec.getShadowColor();
+
+        mShadowRadius = spec.getShadowRadius();
+
+        mShadowSide = spec.getShadowSide();
+
+        mShadowShape = spec.getShadowShape();
+
+        mCornerPosition = spec.getCornerPosition();
+
+        mRoundCornerRadius = spec.getRoundCornerRadius();
+
+        for (int i = 0; i < 4; i++) {
+            mRoundCornerRadii[i] = spec.getRoundCornerRadius(i);
+        }
+
+        mShadowFalloff = spec.getShadowFalloff();
+
+        mShadowDx = spec.getShadowDx();
+
+        mShadowDy = spec.getShadowDy();
+
+        mShadowSpread = spec.getShadowSpread();
+
+        mShadowPath = spec.getShadowPath();
+
+        updateMaskColor();
+
+        applyCacheMode();
+
+        onSpecChanged();
+
+        mShadowSpec = spec;
+
+    }
+
+    /**
+     * @return 当前参数对应的共享 ShadowSpec
+     */
+    public ShadowSpec getShadowSpec() {
+
+        if (mShadowSpec == null) {
+            mShadowSpec = new ShadowSpec.Builder()
+                    .setShadowColor(mShadowColor)
+                    .setShadowRadius(mShadowRadius)
+                    .setShadowSide(mShadowSide)
+                    .setShadowShape(mShadowShape)
+                    .setCornerPosition(mCornerPosition)
+                    .setRoundCornerRadius(mRoundCornerRadius)
+                    .setRoundCornerRadii(mRoundCornerRadii[0], mRoundCornerRadii[1], mRoundCornerRadii[2], mRoundCornerRadii[3])
+                    .setShadowFalloff(mShadowFalloff)
+                    .setShadowOffset(mShadowDx, mShadowDy)
+                    .setShadowSpread(mShadowSpread)
+                    .setShadowPathOnly(mShadowPath)
+                    .build();
+        }
+
+        return mShadowSpec;
+    }
+
+    public void setShadowColor(int shadowColor) {
+
+        mShadowColor = shadowColor;
+
+        updateMaskColor();
+
+        onSpecChanged();
+
+    }
+
+    public void setShadowRadius(float shadowRadius) {
+
+        mShadowRadius = shadowRadius;
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * @param shadowSide {@link FpShadowLayout#LEFT}、{@link FpShadowLayout#TOP}、{@link FpShadowLayout#RIGHT}、{@link FpShadowLayout#BOTTOM} 的组合
+     */
+    public void setShadowSide(int shadowSide) {
+
+        mShadowSide = shadowSide;
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * @param cornerPosition {@link FpShadowLayout#CORNER_LEFT_TOP} 等的组合，只在圆角矩形时生效
+     */
+    public void setCornerPosition(int cornerPosition) {
+
+        mCornerPosition = cornerPosition;
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * @param shadowShape {@link FpShadowLayout#SHAPE_RECTANGLE}、{@link FpShadowLayout#SHAPE_ROUND_RECTANGLE}、
+     *                    {@link FpShadowLayout#SHAPE_OVAL}、{@link FpShadowLayout#SHAPE_CIRCLE} 或 {@link FpShadowLayout#SHAPE_PATH}
+     */
+    public void setShadowShape(int shadowShape) {
+
+        mShadowShape = shadowShape;
+
+        applyCacheMode();
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * 设置自定义形状的阴影，形状会切换为 {@link FpShadowLayout#SHAPE_PATH}。
+     * path 的坐标相对内容区域的左上角，设置后不能再修改，需要修改时设置一个新的 path
+     */
+    public void setShadowPath(Path path) {
+
+        mShadowPath = path;
+
+        setShadowShape(FpShadowLayout.SHAPE_PATH);
+
+    }
+
+    public void setRoundCornerRadius(float roundCornerRadius) {
+
+        mRoundCornerRadius = roundCornerRadius;
+
+        mRoundCornerRadii[0] = mRoundCornerRadii[1] = mRoundCornerRadii[2] = mRoundCornerRadii[3] = roundCornerRadius;
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * 每个角单独设置圆角半径，只在圆角矩形、并且该角在圆角位置中时生效
+     */
+    public void setRoundCornerRadii(float leftTop, float rightTop, float rightBottom, float leftBottom) {
+
+        mRoundCornerRadii[0] = leftTop;
+
+        mRoundCornerRadii[1] = rightTop;
+
+        mRoundCornerRadii[2] = rightBottom;
+
+        mRoundCornerRadii[3] = leftBottom;
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * 阴影偏移，正数向右、向下。只平移缓存的阴影，不重新渲染
+     */
+    public void setShadowOffset(float dx, float dy) {
+
+        mShadowDx = dx;
+
+        mShadowDy = dy;
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * 阴影扩展，阴影开始变淡前先向外扩展的距离。只拉伸缓存的阴影，不重新渲染
+     */
+    public void setShadowSpread(float spread) {
+
+        mShadowSpread = spread;
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * @param falloff {@link FpShadowLayout#FALLOFF_LINEAR}、{@link FpShadowLayout#FALLOFF_GAUSSIAN} 或 {@link FpShadowLayout#FALLOFF_EASE_OUT}
+     */
+    public void setShadowFalloff(int falloff) {
+
+        mShadowFalloff = falloff;
+
+        onSpecChanged();
+
+    }
+
+    /**
+     * 属性动画中设置阴影大小，缓存的阴影只做变换，阴影占用的空间不变，停止变化后再重新渲染
+     */
+    void animateShadowRadius(float shadowRadius) {
+
+        mShadowRadius = shadowRadius;
+
+        onAnimatedSpecChanged();
+
+    }
+
+    /**
+     * 属性动画中设置阴影颜色，缓存的遮罩与颜色无关，只需要修改画笔颜色
+     */
+    void animateShadowColor(int shadowColor) {
+
+        mShadowSpec = null;
+
+        mShadowColor = shadowColor;
+
+        updateMaskColor();
+
+        mShadowPlanDirty = true;
+
+        invalidateSelf();
+
+    }
+
+    private void onAnimatedSpecChanged() {
+
+        mShadowSpec = null;
+
+        //没有 callback 时无法延迟重新渲染，按普通的参数变化处理
+        if (getCallback() == null) {
+            onSpecChanged();
+            return;
+        }
+
+        mAnimating = true;
+
+        mShadowPlanDirty = true;
+
+        //每帧都改变阴影占用的空间会导致每帧重新布局，动画停止后再更新
+        updateShadowGeometry();
+
+        unscheduleSelf(mSettleRunnable);
+
+        scheduleSelf(mSettleRunnable, SystemClock.uptimeMillis() + ANIMATION_SETTLE_DELAY);
+
+        invalidateSelf();
+
+    }
+
+    /**
+     * 阴影大小的动画停止后阴影占用的空间才更新，通过这个回调通知宿主重新布局
+     */
+    interface OnInsetsChangedListener {
+
+        void onInsetsChanged();
+    }
+
+    void setOnInsetsChangedListener(OnInsetsChangedListener listener) {
+        mOnInsetsChangedListener = listener;
+    }
+
+    private void onSpecChanged() {
+
+        mShadowSpec = null;
+
+        if (mAnimating) {
+            mAnimating = false;
+            unscheduleSelf(mSettleRunnable);
+        }
+
+        updateShadowInsets();
+
+        onShadowChanged();
+
+        invalidateSelf();
+
+    }
+
+    /**
+     * 设置阴影缓存方式
+     * @param cacheMode {@link FpShadowLayout#CACHE_NONE}、{@link FpShadowLayout#CACHE_BITMAP} 或 {@link FpShadowLayout#CACHE_NINE_PATCH}
+     */
+    public void setShadowCacheMode(int cacheMode) {
+
+        mShadowCacheMode = cacheMode;
+
+        applyCacheMode();
+
+    }
+
+    /**
+     * 软件绘制时子 view 每次刷新都会重画整个图层，阴影的渐变也要跟着重画一遍，
+     * 这时即使没有设置缓存也先把阴影渲染到一张图片里，之后每次只需要绘制这张图片
+     * @param required
+     */
+    void setShadowSurfaceRequired(boolean required) {
+
+        mShadowSurfaceRequired = required;
+
+        applyCacheMode();
+
+    }
+
+    private void applyCacheMode() {
+
+        int cacheMode = mShadowCacheMode == CACHE_NONE && mShadowSurfaceRequired ? CACHE_BITMAP : mShadowCacheMode;
+
+        //椭圆、圆形和自定义形状没有九宫格，只能缓存为整张遮罩
+        if (ShadowRenderer.isShape(mShadowShape)) {
+            cacheMode = CACHE_BITMAP;
+        }
+
+        if (mCacheModeInUse == cacheMode) {
+            return;
+        }
+
+        mCacheModeInUse = cacheMode;
+
+        cancelPendingRender();
+
+        if (cacheMode != CACHE_BITMAP) {
+            mShadowBitmap = null;
+            mShadowBitmapKey.clear();
+        }
+
+        if (cacheMode != CACHE_NINE_PATCH) {
+            mShadowNinePatch = null;
+            mShadowNinePatchKey.clear();
+        }
+
+        onShadowChanged();
+
+        invalidateSelf();
+
+    }
+
+    /**
+     * 是否在后台线程渲染阴影，只在缓存方式为 {@link FpShadowLayout#CACHE_BITMAP} 或 {@link FpShadowLayout#CACHE_NINE_PATCH} 时生效。
+     * 渲染完成前不绘制阴影
+     */
+    public void setShadowAsync(boolean async) {
+
+        if (mShadowAsync == async) {
+            return;
+        }
+
+        mShadowAsync = async;
+
+        //正在后台渲染时 key 已经更新而缓存还是 null，需要一起清掉，下次绘制时同步渲染
+        if (!async) {
+            cancelPendingRenderAndReset();
+        }
+
+        invalidateSelf();
+
+    }
+
+    public void setRenderTimingEnabled(boolean enabled) {
+        mRenderTimingEnabled = enabled;
+    }
+
+    public int getShadowColor() {
+        return mShadowColor;
+    }
+
+    public float getShadowRadius() {
+        return mShadowRadius;
+    }
+
+    public int getShadowSide() {
+        return mShadowSide;
+    }
+
+    public int getCornerPosition() {
+        return mCornerPosition;
+    }
+
+    public int getShadowShape() {
+        return mShadowShape;
+    }
+
+    public float getRoundCornerRadius() {
+        return mRoundCornerRadius;
+    }
+
+    public int getShadowFalloff() {
+        return mShadowFalloff;
+    }
+
+    public Path getShadowPath() {
+        return mShadowPath;
+    }
+
+    /**
+     * @return 每个角的圆角半径，顺序：左上、右上、右下、左下
+     */
+    public float[] getRoundCornerRadii() {
+        return mRoundCornerRadii.clone();
+    }
+
+    public float getShadowDx() {
+        return mShadowDx;
+    }
+
+    public float getShadowDy() {
+        return mShadowDy;
+    }
+
+    public float getShadowSpread() {
+        return mShadowSpread;
+    }
+
+    public int getShadowCacheMode() {
+        return mShadowCacheMode;
+    }
+
+    public boolean isShadowAsync() {
+        return mShadowAsync;
+    }
+
+    public boolean isRenderTimingEnabled() {
+        return mRenderTimingEnabled;
+    }
+
+    public FpShadowRenderStats getRenderStats() {
+        return mRenderStats;
+    }
+}
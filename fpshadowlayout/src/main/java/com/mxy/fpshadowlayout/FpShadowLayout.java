@@ -4,3559 +4,834 @@ import android.content.Context;
 import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
-import android.graphics.LinearGradient;
-import android.graphics.Paint;
-import android.graphics.RadialGradient;
-import android.graphics.RectF;
-import android.graphics.Shader;
+import android.graphics.Path;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.AttributeSet;
-import android.util.DisplayMetrics;
+import android.util.Property;
+import android.view.Gravity;
 import android.view.View;
+import android.view.ViewOutlineProvider;
 import android.widget.FrameLayout;
 
-/**
- * Created by mxy on 2019/4/19.
- */
-
-public class FpShadowLayout extends FrameLayout {
-
-    //阴影所在的边
-    public static final int ALL = 0x1111;
-
-    public static final int LEFT = 0x0001;
-
-    public static final int TOP = 0x0010;
-
-    public static final int RIGHT = 0x0100;
-
-    public static final int BOTTOM = 0x1000;
-
-    //圆角所在的边
-    public static final int CORNER_ALL = 0x1111;
-
-    public static final int CORNER_LEFT_TOP = 0x0001;
-
-    public static final int CORNER_LEFT_BOTTOM = 0x0010;
-
-    public static final int CORNER_RIGHT_TOP = 0x0100;
-
-    public static final int CORNER_RIGHT_BOTTOM = 0x1000;
-
-    //view的形状
-    public static final int SHAPE_RECTANGLE = 0x0001;
-
-    public static final int SHAPE_ROUND_RECTANGLE = 0x0100;
-
-//    public static final int SHAPE_OVAL = 0x0010;
-
-    private Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-
-    //阴影颜色
-    private int mShadowColor = Color.TRANSPARENT;
-
-    //阴影大小
-    private float mShadowRadius = 0;
-
-    //阴影所在的边
-    private int mShadowSide = ALL;
-
-    //圆角所在位置
-    private int mCornerPosition = CORNER_ALL;
-
-    //控件形状，圆角矩形 / 矩形
-    private int mShadowShape = SHAPE_RECTANGLE;
-
-    private float mRoundCornerRadius = 10;
-
-    private int mViewWidth, mViewHeight;
-
-
-    public FpShadowLayout(@NonNull Context context) {
-        this(context, null);
-    }
-
-    public FpShadowLayout(@NonNull Context context, @Nullable AttributeSet attrs) {
-        this(context, attrs, 0);
-    }
-
-    public FpShadowLayout(@NonNull Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
-        super(context, attrs, defStyleAttr);
-        initViews(attrs);
-    }
-
-    private void initViews(AttributeSet attrs) {
-
-        setLayerType(View.LAYER_TYPE_SOFTWARE, null);// 关闭硬件加速
-
-        this.setWillNotDraw(false);
-
-        TypedArray typedArray = getContext().obtainStyledAttributes(attrs, R.styleable.Fp_ShadowLayout);
-
-        if (typedArray != null) {
-
-            mShadowColor = typedArray.getColor(R.styleable.Fp_ShadowLayout_fp_shadowColor,
-                    getContext().getResources().getColor(android.R.color.black));
-
-            mShadowRadius = typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowRadius, dip2px(0));
-
-            mRoundCornerRadius = typedArray.getDimension(R.styleable.Fp_ShadowLayout_fp_shadowRoundRadius, dip2px(0));
-
-            mShadowSide = typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_shadowSide, ALL);
-
-            mShadowShape = typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_shadowShape, SHAPE_RECTANGLE);
-
-            mCornerPosition = typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_round_corner, CORNER_ALL);
-
-            typedArray.recycle();
-
-        }
-
-        mPaint.reset();
-
-        mPaint.setAntiAlias(true);
-
-    }
-
-    @Override
-    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
-
-        float effect = mShadowRadius;
-
-        int paddingLeft = 0;
-
-        int paddingTop = 0;
-
-        int paddingRight = 0;
-
-        int paddingBottom = 0;
-
-        if ((mShadowSide & LEFT) == LEFT) {
-            paddingLeft = (int) effect;
-        }
-
-        if ((mShadowSide & TOP) == TOP) {
-            paddingTop = (int) effect;
-        }
-
-        if ((mShadowSide & RIGHT) == RIGHT) {
-            paddingRight = (int) effect;
-        }
-
-        if ((mShadowSide & BOTTOM) == BOTTOM) {
-            paddingBottom = (int) effect;
-        }
-
-        this.setPadding(paddingLeft, paddingTop, paddingRight, paddingBottom);
-
-        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
-
-    }
-
-    @Override
-    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
-        super.onSizeChanged(w, h, oldw, oldh);
-
-        mViewHeight = h;
-
-        mViewWidth = w;
-
-    }
-
-    @Override
-    protected void onDraw(Canvas canvas) {
-        super.onDraw(canvas);
-
-        mPaint.reset();
-
-        mPaint.setAntiAlias(true);
-
-        int[] colors = {mShadowColor, 0x00ffffff};
-
-        if (mShadowShape == SHAPE_RECTANGLE) {
-
-            float[] floats = new float[]{0f, 1.0f};
-
-            mPaint.setStrokeWidth(mShadowRadius);
-
-            if ((mShadowSide & LEFT) == LEFT && (mShadowSide & TOP) != TOP && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & BOTTOM) != BOTTOM) {
-                //画左边阴影
-                drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight));
-            } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & TOP) == TOP && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & BOTTOM) != BOTTOM) {
-                //画上边阴影
-                drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mViewWidth, mShadowRadius));
-            } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & TOP) != TOP && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & BOTTOM) != BOTTOM) {
-                //画右边阴影
-                drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, 0, mViewWidth, mViewHeight));
-            } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & TOP) != TOP && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & BOTTOM) == BOTTOM) {
-                //画下边阴影
-                drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - mShadowRadius, mViewWidth, mViewHeight));
-            } else {
-
-                if ((mShadowSide & LEFT) == LEFT && (mShadowSide & TOP) == TOP && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & BOTTOM) != BOTTOM) {
-                    //画左边阴影
-                    drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mShadowRadius, mShadowRadius, mViewHeight));
-
-                    //画上边阴影
-                    drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, 0, mViewWidth, mShadowRadius));
-
-                    //画上边和左边角落的阴影
-                    drawArcRadialGradient(canvas, mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * mShadowRadius, 2 * mShadowRadius), 180, 90);
-
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) != TOP && (mShadowSide & BOTTOM) != BOTTOM) {//左边和右边
-
-                    //画左边阴影
-                    drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight));
-
-                    //画右边阴影
-                    drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, 0, mViewWidth, mViewHeight));
-
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & TOP) != TOP && (mShadowSide & BOTTOM) == BOTTOM) {//左边和下边
-
-                    //画左边阴影
-                    drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight - mShadowRadius));
-
-                    //画下边阴影
-                    drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, mViewHeight - mShadowRadius, mViewWidth, mViewHeight));
-
-                    //画左边和下边角落的阴影
-
-                    drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2 * mShadowRadius, 2 * mShadowRadius, mViewHeight), 90, 90);
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) != BOTTOM) {//左边上边和右边
-                    //画左边阴影
-                    drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mShadowRadius, mShadowRadius, mViewHeight));
-
-                    //画上边阴影
-                    drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, 0, mViewWidth - mShadowRadius, mShadowRadius));
-
-                    //画上边和左边角落的阴影
-
-                    drawArcRadialGradient(canvas, mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * mShadowRadius, 2 * mShadowRadius), 180, 90);
-
-                    //画右边阴影
-                    drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, mShadowRadius, mViewWidth, mViewHeight));
-
-                    //画上边和右边角落的阴影
-                    drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, 0, mViewWidth, 2 * mShadowRadius), 270, 90);
-
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) == BOTTOM) {//左边上边和下边
-                    //画左边阴影
-                    drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mShadowRadius, mShadowRadius, mViewHeight - mShadowRadius));
-
-                    //画上边阴影
-                    drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, 0, mViewWidth, mShadowRadius));
-
-                    //画上边和左边角落的阴影
-
-                    drawArcRadialGradient(canvas, mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * mShadowRadius, 2 * mShadowRadius), 180, 90);
-
-                    //画下边阴影
-                    drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, mViewHeight - mShadowRadius, mViewWidth, mViewHeight));
-
-                    //画左边和下边角落的阴影
-                    drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2 * mShadowRadius, 2 * mShadowRadius, mViewHeight), 90, 90);
-
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) != TOP && (mShadowSide & BOTTOM) == BOTTOM) {//左边右边和下边
-                    //画左边阴影
-                    drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight - mShadowRadius));
-
-                    //画右边阴影
-                    drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, 0, mViewWidth, mViewHeight - mShadowRadius));
-
-                    //画下边和右边角落的阴影
-                    drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, mViewHeight - 2 * mShadowRadius, mViewWidth, mViewHeight), 0, 90);
-
-                    //画下边阴影
-                    drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, mViewHeight - mShadowRadius, mViewWidth - mShadowRadius, mViewHeight));
-
-                    //画左边和下边角落的阴影
-                    drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2 * mShadowRadius, 2 * mShadowRadius, mViewHeight), 90, 90);
-
-                } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) != BOTTOM) {//上右
-
-                    //画上边阴影
-                    drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mViewWidth - mShadowRadius, mShadowRadius));
-
-                    //画右边阴影
-                    drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, mShadowRadius, mViewWidth, mViewHeight));
-
-                    //画上边和右边角落的阴影
-                    drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, 0, mViewWidth, 2 * mShadowRadius), 270, 90);
-
-                } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) == BOTTOM) {//上下
-
-                    //画上边阴影
-                    drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mViewWidth, mShadowRadius));
-                    //画下边阴影
-                    drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - mShadowRadius, mViewWidth, mViewHeight));
-
-                } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) == BOTTOM) {//右上下
-
-                    //画上边阴影
-                    drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mViewWidth - mShadowRadius, mShadowRadius));
-
-                    //画右边阴影
-                    drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, mShadowRadius, mViewWidth, mViewHeight - mShadowRadius));
-
-                    //画上边和右边角落的阴影
-                    drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, 0, mViewWidth, 2 * mShadowRadius), 270, 90);
-
-                    //画下边阴影
-                    drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - mShadowRadius, mViewWidth - mShadowRadius, mViewHeight));
-
-                    //画右边和下边角落的阴影
-                    drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, mViewHeight - 2 * mShadowRadius, mViewWidth, mViewHeight), 0, 90);
-
-                } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) != TOP && (mShadowSide & BOTTOM) == BOTTOM) {//右下
-
-                    //画右边阴影
-                    drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, 0, mViewWidth, mViewHeight - mShadowRadius));
-
-                    //画下边阴影
-                    drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - mShadowRadius, mViewWidth - mShadowRadius, mViewHeight));
-
-                    //画右边和下边角落的阴影
-                    drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, mViewHeight - 2 * mShadowRadius, mViewWidth, mViewHeight), 0, 90);
-
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) == BOTTOM) {//左上右下
-                    //画左边阴影
-                    drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mShadowRadius, mShadowRadius, mViewHeight - mShadowRadius));
-
-                    //画上边阴影
-                    drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, 0, mViewWidth - mShadowRadius, mShadowRadius));
-
-                    //画上边和左边角落的阴影
-                    drawArcRadialGradient(canvas, mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * mShadowRadius, 2 * mShadowRadius), 180, 90);
-
-                    //画右边阴影
-                    drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, mShadowRadius, mViewWidth, mViewHeight - mShadowRadius));
-
-                    //画上边和右边角落的阴影
-                    drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, 0, mViewWidth, 2 * mShadowRadius), 270, 90);
-
-                    //画下边阴影
-                    drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, mViewHeight - mShadowRadius, mViewWidth - mShadowRadius, mViewHeight));
-
-                    //画右边和下边角落的阴影
-                    drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, mViewHeight - 2 * mShadowRadius, mViewWidth, mViewHeight), 0, 90);
-
-                    //画左边和下边角落的阴影
-                    drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2 * mShadowRadius, 2 * mShadowRadius, mViewHeight), 90, 90);
-                }
-
-            }
-
-        } else if (mShadowShape == SHAPE_ROUND_RECTANGLE) {
-
-            float[] floats = new float[]{0f, 1f};
-
-            if ((mShadowSide & LEFT) == LEFT && (mShadowSide & TOP) != TOP && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & BOTTOM) != BOTTOM) {
-                //画左边阴影
-                if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM) {
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                    drawLeftSide(canvas,colors,floats,0,mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight);
-
-
-                } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawLeftSide(canvas,colors,floats,0,0,mShadowRadius+mRoundCornerRadius,mViewHeight-mRoundCornerRadius);
-
-                    drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawLeftSide(canvas,colors,floats,0,mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mRoundCornerRadius);
-
-                    drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                    drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                }
-            } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & TOP) == TOP && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & BOTTOM) != BOTTOM) {
-                //画上边阴影
-                if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP) {
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                    drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                    drawRightTopUpArcGradient(canvas,colors,floats);
-
-                } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                    drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawTopSide(canvas,colors,floats,0,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                    drawRightTopUpArcGradient(canvas,colors,floats);
-
-                }
-            } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & TOP) != TOP && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & BOTTOM) != BOTTOM) {
-                //画右边阴影
-                if ((mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawRightTopDownArcGradient(canvas,colors,floats);
-
-                    drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                    drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                } else if((mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM){
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawRightTopDownArcGradient(canvas,colors,floats);
-
-                    drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                } else if((mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM){
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                    drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                }
-            } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & TOP) != TOP && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & BOTTOM) == BOTTOM) {
-                //画下边阴影
-                if ((mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                    drawBottomSide(canvas, colors, floats, mRoundCornerRadius, mViewHeight - mShadowRadius - mRoundCornerRadius, mViewWidth - mRoundCornerRadius, mViewHeight);
-
-                    drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                } else if((mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM){
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                    drawBottomSide(canvas, colors, floats, mRoundCornerRadius, mViewHeight - mShadowRadius - mRoundCornerRadius, mViewWidth, mViewHeight);
-
-                } else if((mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM){
-
-                    floats = creatThreePositionFloat();
-
-                    colors = creatThreePositionColor();
-
-                    drawBottomSide(canvas, colors, floats, 0, mViewHeight - mShadowRadius - mRoundCornerRadius, mViewWidth - mRoundCornerRadius, mViewHeight);
-
-                    drawRightBottomDownArcGradient(canvas,colors,floats);
-                }
-            } else {
-
-                if ((mShadowSide & LEFT) == LEFT && (mShadowSide & TOP) == TOP && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & BOTTOM) != BOTTOM) {//左边和上边
-
-
-                    if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius+mShadowRadius,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius)), 180, 90);
-                        //画上边阴影
-                        drawRectLinearGradient(canvas, 0, mShadowRadius + mRoundCornerRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius + mRoundCornerRadius, 0, mViewWidth, mShadowRadius + mRoundCornerRadius));
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight));
-                        //画上边和左边角落的阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius)), 180, 90);
-                        //画上边阴影
-                        drawRectLinearGradient(canvas, 0, mShadowRadius + mRoundCornerRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius + mRoundCornerRadius, 0, mViewWidth - (mRoundCornerRadius), mShadowRadius));
-                        //画右上角
-                        RectF rf = new RectF(mViewWidth - (2 * mRoundCornerRadius), 0, mViewWidth, 2 * (mShadowRadius + mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画上边阴影
-                        drawRectLinearGradient(canvas, 0, mShadowRadius + mRoundCornerRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius + mRoundCornerRadius, 0, mViewWidth, mShadowRadius));
-                        //画上边和左边角落的阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius)), 180, 90);
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mRoundCornerRadius);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    } else {
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mShadowRadius, mShadowRadius, mViewHeight));
-                        //画上边阴影
-                        drawRectLinearGradient(canvas, 0, mShadowRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, 0, mViewWidth, mShadowRadius));
-                        //画上边和左边角落的阴影
-                        drawArcRadialGradient(canvas, mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * mShadowRadius, 2 * mShadowRadius), 180, 90);
-                    }
-
-
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) != TOP && (mShadowSide & BOTTOM) != BOTTOM) {//左边和右边
-
-                    if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-                        //画右上角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * (mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mViewWidth, mViewHeight - (mRoundCornerRadius)));
-
-                        //画右下角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-//                        Paint paint = new Paint();
-//                        paint.setColor(Color.GREEN);
-//                        canvas.drawRect(rf,paint);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, 0, mViewWidth, mViewHeight));
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, 0, mViewWidth, mViewHeight));
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, 0, mViewWidth, mViewHeight));
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-                        //画右上角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * (mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mViewWidth, mViewHeight));
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, mViewHeight - (mRoundCornerRadius)));
-
-                        //画右下角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight));
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, mViewHeight - (mRoundCornerRadius)));
-
-                        //画右下角阴影
-                        RectF rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight));
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画右上角阴影
-                        RectF rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * (mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mViewWidth, mViewHeight));
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight));
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画右上角阴影
-                        RectF rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * (mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mViewWidth, mViewHeight - (mRoundCornerRadius)));
-
-                        //画右下角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-
-                        //画右上角阴影
-                        RectF rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * (mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mViewWidth, mViewHeight - (mRoundCornerRadius)));
-
-                        //画右下角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-
-                        //画右上角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * (mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mViewWidth, mViewHeight - (mRoundCornerRadius)));
-
-                        //画右下角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, mViewHeight - (mRoundCornerRadius)));
-
-                        //画右下角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius)));
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-
-                        //画右上角阴影
-                        rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * (mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mViewWidth, mViewHeight));
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-
-                        //画右上角阴影
-                        RectF rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * (mRoundCornerRadius));
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius, mViewWidth, mViewHeight));
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, mViewHeight - (mRoundCornerRadius)));
-
-                        //画右下角阴影
-                        RectF rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else {
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight));
-
-                        //画右边阴影
-                        drawRectLinearGradient(canvas, mViewWidth - mShadowRadius, 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - mShadowRadius, 0, mViewWidth, mViewHeight));
-                    }
-
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & TOP) != TOP && (mShadowSide & BOTTOM) == BOTTOM) {//左边和下边
-/////////////////////////////////////////////////////////////////////
-                    if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius)));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-                        //画下边阴影
-                        drawRectLinearGradient(canvas, 0, mViewHeight -(mShadowRadius + mRoundCornerRadius), 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius + mRoundCornerRadius, mViewHeight-(mShadowRadius + mRoundCornerRadius), mViewWidth - (mRoundCornerRadius), mViewHeight));
-//                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-//                        //画右下角阴影
-                        rf = new RectF(mViewWidth - 2*(mRoundCornerRadius), mViewHeight-2*(mShadowRadius + mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mRoundCornerRadius), mViewHeight-(mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius)));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2*(mRoundCornerRadius)), 180, 90);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-                        //画下边阴影
-                        drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, mViewHeight - mShadowRadius, mViewWidth, mViewHeight));
-                        //画左下直角的阴影
-                        drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2 * mShadowRadius, 2 * mShadowRadius, mViewHeight), 90, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius , 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight - (mShadowRadius+mRoundCornerRadius)));
-
-                        //画下边阴影
-                        drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius+mRoundCornerRadius, mViewHeight-mShadowRadius, mViewWidth, mViewHeight));
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - 2 * (mShadowRadius+mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius+mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius , 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight - (mShadowRadius)));
-                        //画下边阴影
-                        drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, mViewHeight - mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight));
-                        //画左下直角的阴影
-                        drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2 * mShadowRadius, 2 * mShadowRadius, mViewHeight), 90, 90);
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画右下角阴影
-                        RectF rf = new RectF(mViewWidth - 2*(mRoundCornerRadius), mViewHeight-2*(mShadowRadius + mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mRoundCornerRadius), mViewHeight-(mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius)));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2*(mRoundCornerRadius)), 180, 90);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-                        //画下边阴影
-                        drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, mViewHeight - mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight));
-                        //画左下直角的阴影
-                        drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2 * mShadowRadius, 2 * mShadowRadius, mViewHeight), 90, 90);
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-                        //画右下角阴影
-                        RectF rf = new RectF(mViewWidth - 2*(mRoundCornerRadius), mViewHeight-2*(mShadowRadius + mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mRoundCornerRadius), mViewHeight-(mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius)));
-                        //画左上角阴影
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
-                        //画下边阴影
-                        drawRectLinearGradient(canvas, 0, mViewHeight -(mShadowRadius + mRoundCornerRadius), 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius + mRoundCornerRadius, mViewHeight-(mShadowRadius + mRoundCornerRadius), mViewWidth, mViewHeight));
-//                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-
-                    } else if ((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM) {
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius)));
-
-                        //画下边阴影
-                        drawRectLinearGradient(canvas, 0, mViewHeight -(mShadowRadius + mRoundCornerRadius), 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius + mRoundCornerRadius, mViewHeight-(mShadowRadius + mRoundCornerRadius), mViewWidth - (mRoundCornerRadius), mViewHeight));
-//                        //画左下角阴影
-                        RectF rf = new RectF(0, mViewHeight - 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
-                        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
-//                        //画右下角阴影
-                        rf = new RectF(mViewWidth - 2*(mRoundCornerRadius), mViewHeight-2*(mShadowRadius + mRoundCornerRadius), mViewWidth, mViewHeight);
-                        drawArcRadialGradient(canvas, mViewWidth - (mRoundCornerRadius), mViewHeight-(mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
-
-                    } else {
-                        //画左边阴影
-                        drawRectLinearGradient(canvas, mShadowRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, mShadowRadius, mViewHeight - mShadowRadius));
-
-                        //画下边阴影
-                        drawRectLinearGradient(canvas, 0, mViewHeight - mShadowRadius, 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(mShadowRadius, mViewHeight - mShadowRadius, mViewWidth, mViewHeight));
-
-                        //画左边和下边角落的阴影
-
-                        drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2 * mShadowRadius, 2 * mShadowRadius, mViewHeight), 90, 90);
-                    }
-/////////////////////////////////////////////////////////////////////
-                } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) != BOTTOM) {//上边和右边
-                    /////&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&&////////
-                    if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-(mShadowRadius),mShadowRadius+mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-                        //画上边和右边角落的阴影
-                        drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, 0, mViewWidth, 2 * mShadowRadius), 270, 90);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius+mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-(mShadowRadius),mShadowRadius+mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius,mViewWidth,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-                        //画上边和右边角落的阴影
-                        drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, 0, mViewWidth, 2 * mShadowRadius), 270, 90);
-
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius+mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth-(mShadowRadius),mShadowRadius+mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-(mShadowRadius+mRoundCornerRadius),mShadowRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-                        //画上边和右边角落的阴影
-                        drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2 * mShadowRadius, 0, mViewWidth, 2 * mShadowRadius), 270, 90);
-
-                    }
-
-                } else if((mShadowSide & LEFT) != LEFT && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) == BOTTOM){//上下
-                    if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth, mViewHeight);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth, mViewHeight);
-
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth, mViewHeight);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth, mViewHeight);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth, mViewHeight);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth-mRoundCornerRadius, mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius,0,mViewWidth,mShadowRadius+mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth, mViewHeight);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0,0,mViewWidth-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight - mRoundCornerRadius-mShadowRadius, mViewWidth, mViewHeight);
-
-                    }
-                } else if((mShadowSide & LEFT) != LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) != TOP && (mShadowSide & BOTTOM) == BOTTOM){//右下
-
-                    if((mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                    } else if((mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-
-                    } else if((mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-                    }
-
-                }//2019/05/14
-                else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) != BOTTOM) {//左边上边和右边
-
-                    if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius));
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        ///////////////*********************/////////////
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight-mRoundCornerRadius);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius));
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius, mViewHeight);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius));
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius));
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius , 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightBottomUpArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-                    }
-
-
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) != RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) == BOTTOM) {//左边上边和下边
-
-                    if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius));
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth - mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius,mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius,mViewWidth,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius,mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius));
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth, mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius,mViewHeight);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius,mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius));
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth, mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius,mViewHeight);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius));
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth,mViewHeight);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius + mRoundCornerRadius, 0, mViewWidth-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius,mViewHeight);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mShadowRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius-mRoundCornerRadius);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius,mViewHeight);
-
-                        drawRightTopUpArcGradient(canvas,colors,floats);
-
-                        drawRightBottomDownArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftTopRightAngle(canvas,colors,floats);
-
-                    }
-                } else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) != TOP && (mShadowSide & BOTTOM) == BOTTOM) {//左边右边和下边
-                    if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius+mRoundCornerRadius));
-
-                        drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius+mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mShadowRadius);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius-mRoundCornerRadius);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mShadowRadius);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius+mRoundCornerRadius));
-
-                        drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius+mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mShadowRadius);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius));
-
-                        drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius));
-
-                        drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius+mShadowRadius));
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius+mShadowRadius));
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius+mRoundCornerRadius));
-
-                        drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius+mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,0,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius+mRoundCornerRadius));
-
-                        drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius+mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mViewHeight - mShadowRadius);
-
-                        drawLeftTopDownArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawLeftBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftSide(canvas,colors,floats,0, 0, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius+mRoundCornerRadius));
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius+mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                        drawRightTopDownArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-                    }
-                } else if ((mShadowSide & LEFT) != LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) == BOTTOM) {//右上下
-
-                    if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius, 0, mViewWidth - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0, 0, mViewWidth - mShadowRadius- mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0, 0, mViewWidth - mShadowRadius- mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
+import java.io.File;
+import java.util.concurrent.Executor;
 
-                        colors = creatTwoPositionColor();
-
-                        drawRightTopRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius, 0, mViewWidth - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        floats = creatTwoPositionFloat();
-
-                        colors = creatTwoPositionColor();
-
-                        drawRightBottomRightAngle(canvas,colors,floats);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopUpArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mRoundCornerRadius, 0, mViewWidth - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,0,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawTopSide(canvas,colors,floats,0, 0, mViewWidth - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftBottomDownArcGradient(canvas,colors,floats);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                    }
-
-                }else if ((mShadowSide & LEFT) == LEFT && (mShadowSide & RIGHT) == RIGHT && (mShadowSide & TOP) == TOP && (mShadowSide & BOTTOM) == BOTTOM) {//左上右下
-
-                    if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius);
-
-                        drawLeftBottomArcGradient(canvas,colors,floats);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
-
-                        drawRightBottomArcGradient(canvas,colors,floats);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
-
-                        drawRightTopArcGradient(canvas,colors,floats);
-
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
-
-                        floats = creatThreePositionFloat();
-
-                        colors = creatThreePositionColor();
-
-                        drawLeftTopArcGradient(canvas,colors,floats);
-
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
-
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius);
-
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius,mViewWidth-mShadowRadius,mViewHeight);
-
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius);
-
-                        floats = creatTwoPositionFloat();
+/**
+ * Created by mxy on 2019/4/19.
+ */
 
-                        colors = creatTwoPositionColor();
+public class FpShadowLayout extends FrameLayout {
 
-                        drawLeftBottomRightAngle(canvas,colors,floats);
+    //阴影所在的边
+    public static final int ALL = 0x1111;
 
-                        drawRightBottomRightAngle(canvas,colors,floats);
+    public static final int LEFT = 0x0001;
 
-                        drawRightTopRightAngle(canvas,colors,floats);
+    public static final int TOP = 0x0010;
 
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
+    public static final int RIGHT = 0x0100;
 
-                        floats = creatThreePositionFloat();
+    public static final int BOTTOM = 0x1000;
 
-                        colors = creatThreePositionColor();
+    //圆角所在的边
+    public static final int CORNER_ALL = 0x1111;
 
-                        drawLeftBottomArcGradient(canvas,colors,floats);
+    public static final int CORNER_LEFT_TOP = 0x0001;
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
+    public static final int CORNER_LEFT_BOTTOM = 0x0010;
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius);
+    public static final int CORNER_RIGHT_TOP = 0x0100;
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius,mViewWidth-mShadowRadius,mViewHeight);
+    public static final int CORNER_RIGHT_BOTTOM = 0x1000;
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius);
+    //view的形状
+    public static final int SHAPE_RECTANGLE = 0x0001;
 
-                        floats = creatTwoPositionFloat();
+    public static final int SHAPE_ROUND_RECTANGLE = 0x0100;
 
-                        colors = creatTwoPositionColor();
+    public static final int SHAPE_OVAL = 0x0010;
 
-                        drawLeftTopRightAngle(canvas,colors,floats);
+    public static final int SHAPE_CIRCLE = 0x1000;
 
-                        drawRightBottomRightAngle(canvas,colors,floats);
+    //自定义形状，通过 setShadowPath 设置
+    public static final int SHAPE_PATH = 0x10000;
 
-                        drawRightTopRightAngle(canvas,colors,floats);
+    //阴影变淡的曲线：线性
+    public static final int FALLOFF_LINEAR = 0;
 
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
+    //接近高斯模糊的边缘
+    public static final int FALLOFF_GAUSSIAN = 1;
 
-                        floats = creatThreePositionFloat();
+    //靠近控件处很快变淡，外侧留一段淡尾
+    public static final int FALLOFF_EASE_OUT = 2;
 
-                        colors = creatThreePositionColor();
+    //阴影缓存方式：不缓存，每帧执行绘制计划
+    public static final int CACHE_NONE = 0;
 
-                        drawRightBottomArcGradient(canvas,colors,floats);
+    //渲染成与控件同尺寸的 Bitmap
+    public static final int CACHE_BITMAP = 1;
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
+    //渲染成与尺寸无关的九宫格，拉伸到控件尺寸
+    public static final int CACHE_NINE_PATCH = 2;
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius);
+    //渲染方式：走硬件加速，老版本上阴影先在软件中渲染成图片
+    public static final int RENDER_AUTO = 0;
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
+    //强制软件绘制（LAYER_TYPE_SOFTWARE）
+    public static final int RENDER_SOFTWARE = 1;
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
+    //强制硬件加速
+    public static final int RENDER_HARDWARE = 2;
 
-                        floats = creatTwoPositionFloat();
+    //Android 5.0 及以上用 elevation 和轮廓交给平台绘制阴影，参数无法用平台阴影表达时退回 RENDER_AUTO
+    public static final int RENDER_NATIVE = 3;
 
-                        colors = creatTwoPositionColor();
+    //布局中不设置 fp_shadowRadius、fp_shadowRoundRadius 时的默认值，与原来的 dip2px(0) 相同，和密度无关。
+    //fp-shadow-specs.gradle 中 FpShadowLayout 的默认圆角半径按这个值生成，修改时两边一起改，ShadowSpec.Builder 的默认值也是这个值
+    static final float DEFAULT_SHADOW_RADIUS = 0.5f;
 
-                        drawLeftTopRightAngle(canvas,colors,floats);
+    /**
+     * 阴影大小的属性，用于 ObjectAnimator，例如按下时抬起的效果。
+     * 动画期间阴影占用的空间保持不变，不会每帧重新布局，缓存的阴影按比例缩放绘制，不重新渲染；
+     * 动画停止后阴影占用的空间有变化时才重新布局一次
+     */
+    public static final Property<FpShadowLayout, Float> SHADOW_RADIUS = new Property<FpShadowLayout, Float>(Float.class, "shadowRadius") {
+        @Override
+        public Float get(FpShadowLayout layout) {
+            return layout.getShadowRadius();
+        }
 
-                        drawLeftBottomRightAngle(canvas,colors,floats);
+        @Override
+        public void set(FpShadowLayout layout, Float value) {
 
-                        drawRightTopRightAngle(canvas,colors,floats);
+            layout.mShadowDrawable.animateShadowRadius(value);
 
-                    } else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
+            layout.onShadowSpecChanged();
 
-                        floats = creatThreePositionFloat();
+        }
+    };
 
-                        colors = creatThreePositionColor();
+    /**
+     * 阴影颜色的属性，用于 ObjectAnimator，需要配合 ArgbEvaluator。
+     * 不会重新布局，缓存的阴影只需要重新着色
+     */
+    public static final Property<FpShadowLayout, Integer> SHADOW_COLOR = new Property<FpShadowLayout, Integer>(Integer.class, "shadowColor") {
+        @Override
+        public Integer get(FpShadowLayout layout) {
+            return layout.getShadowColor();
+        }
 
-                        drawRightTopArcGradient(canvas,colors,floats);
+        @Override
+        public void set(FpShadowLayout layout, Integer value) {
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
+            layout.mShadowDrawable.animateShadowColor(value);
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius);
+            layout.onShadowSpecChanged();
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius,mViewWidth-mShadowRadius,mViewHeight);
+        }
+    };
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
+    //阴影的绘制都交给 FpShadowDrawable，画在整个控件范围内
+    private final FpShadowDrawable mShadowDrawable = new FpShadowDrawable();
 
-                        floats = creatTwoPositionFloat();
+    //阴影占用的四周空间
+    private int mInsetLeft, mInsetTop, mInsetRight, mInsetBottom;
 
-                        colors = creatTwoPositionColor();
+    //与 FrameLayout 相同的子 view 默认位置
+    private static final int DEFAULT_CHILD_GRAVITY = Gravity.TOP | Gravity.START;
 
-                        drawLeftTopRightAngle(canvas,colors,floats);
+    //onLayout 中去掉 padding 和阴影后摆放子 view 的区域，以及算出的子 view 位置
+    private final Rect mChildContainer = new Rect();
 
-                        drawLeftBottomRightAngle(canvas,colors,floats);
+    private final Rect mChildFrame = new Rect();
 
-                        drawRightBottomRightAngle(canvas,colors,floats);
+    //渲染方式
+    private int mRenderMode = RENDER_AUTO;
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
+    //当前是否由平台绘制阴影
+    private boolean mNativeShadow = false;
 
-                        floats = creatThreePositionFloat();
+    private ShadowOutlineProvider mOutlineProvider;
 
-                        colors = creatThreePositionColor();
+    private OnRenderStatsListener mOnRenderStatsListener;
 
-                        drawLeftTopArcGradient(canvas,colors,floats);
+    /**
+     * 每次 onDraw 结束后回调，用于线上采样阴影的渲染开销
+     */
+    public interface OnRenderStatsListener {
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
+        void onRenderStats(FpShadowLayout layout, FpShadowRenderStats stats);
+    }
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius);
+    public FpShadowLayout(@NonNull Context context) {
+        this(context, null);
+    }
 
-                        drawLeftBottomArcGradient(canvas,colors,floats);
+    public FpShadowLayout(@NonNull Context context, @Nullable AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
+    public FpShadowLayout(@NonNull Context context, @Nullable AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        initViews(attrs);
+    }
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius);
+    private void initViews(AttributeSet attrs) {
 
-                        floats = creatTwoPositionFloat();
+        this.setWillNotDraw(false);
 
-                        colors = creatTwoPositionColor();
+        TypedArray typedArray = getContext().obtainStyledAttributes(attrs, R.styleable.Fp_ShadowLayout);
 
-                        drawRightTopRightAngle(canvas,colors,floats);
+        if (typedArray != null) {
 
-                        drawRightBottomRightAngle(canvas,colors,floats);
+            mShadowDrawable.loadAttributes(typedArray, getContext().getResources().getColor(android.R.color.black), DEFAULT_SHADOW_RADIUS);
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) != CORNER_RIGHT_TOP){
+            mRenderMode = typedArray.getInt(R.styleable.Fp_ShadowLayout_fp_renderMode, RENDER_AUTO);
 
-                        floats = creatThreePositionFloat();
+            typedArray.recycle();
 
-                        colors = creatThreePositionColor();
+        }
 
-                        drawLeftTopArcGradient(canvas,colors,floats);
+        mShadowDrawable.setCallback(this);
 
-                        drawRightBottomArcGradient(canvas,colors,floats);
+        mShadowDrawable.setOnInsetsChangedListener(new FpShadowDrawable.OnInsetsChangedListener() {
+            @Override
+            public void onInsetsChanged() {
+                onShadowSpecChanged();
+            }
+        });
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
+        updateShadowInsets();
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius);
+        applyRenderMode();
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
+    }
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
+    /**
+     * 阴影只用到渐变的 drawRect / drawArc 和 drawBitmap，硬件加速下都支持，
+     * 只在指定软件绘制时才使用软件层，子 view 可以继续走硬件加速的 display list。
+     * 软件层中子 view 刷新会重画整个图层，老版本硬件加速下渐变的支持也不完整，
+     * 这两种情况阴影先在软件中渲染成图片，之后每次只绘制这张图片，不再跟着子 view 重画渐变
+     */
+    private void applyRenderMode() {
 
-                        floats = creatTwoPositionFloat();
+        boolean nativeShadow = mRenderMode == RENDER_NATIVE && canUseNativeShadow();
 
-                        colors = creatTwoPositionColor();
+        if (nativeShadow || mNativeShadow) {
+            applyNativeShadow(nativeShadow);
+        }
 
-                        drawRightTopRightAngle(canvas,colors,floats);
+        boolean software = mRenderMode == RENDER_SOFTWARE;
 
-                        drawLeftBottomRightAngle(canvas,colors,floats);
+        mShadowDrawable.setShadowSurfaceRequired(software
+                || (!nativeShadow && mRenderMode != RENDER_HARDWARE && Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR2));
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP) == CORNER_RIGHT_TOP){
+        setLayerType(software ? View.LAYER_TYPE_SOFTWARE : View.LAYER_TYPE_NONE, null);
 
-                        floats = creatThreePositionFloat();
+    }
 
-                        colors = creatThreePositionColor();
+    /**
+     * 平台阴影总是在四周，只有一个统一的圆角，9.0 以下不能改颜色，
+     * 只有这几种情况和渐变绘制的效果足够接近
+     */
+    private boolean canUseNativeShadow() {
 
-                        drawLeftTopArcGradient(canvas,colors,floats);
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+            return false;
+        }
 
-                        drawRightTopArcGradient(canvas,colors,floats);
+        if (mShadowDrawable.getShadowSide() != ALL || mShadowDrawable.getShadowRadius() <= 0) {
+            return false;
+        }
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
+        if (mShadowDrawable.getShadowDx() != 0 || mShadowDrawable.getShadowDy() != 0 || mShadowDrawable.getShadowSpread() != 0) {
+            return false;
+        }
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius);
+        if (ShadowRenderer.isShape(mShadowDrawable.getShadowShape())) {
+            return false;
+        }
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
+        if (mShadowDrawable.getShadowShape() == SHAPE_ROUND_RECTANGLE) {
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
+            if (mShadowDrawable.getCornerPosition() != CORNER_ALL) {
+                return false;
+            }
 
-                        floats = creatTwoPositionFloat();
+            float[] radii = mShadowDrawable.getRoundCornerRadii();
 
-                        colors = creatTwoPositionColor();
+            if (radii[0] != radii[1] || radii[0] != radii[2] || radii[0] != radii[3]) {
+                return false;
+            }
+        }
 
-                        drawRightBottomRightAngle(canvas,colors,floats);
+        int color = mShadowDrawable.getShadowColor();
 
-                        drawLeftBottomRightAngle(canvas,colors,floats);
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.P
+                || (Color.red(color) == 0 && Color.green(color) == 0 && Color.blue(color) == 0);
+    }
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
+    /**
+     * 打开或关闭平台阴影，关闭时还原 elevation 和轮廓
+     */
+    private void applyNativeShadow(boolean enabled) {
 
-                        floats = creatThreePositionFloat();
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+            return;
+        }
 
-                        colors = creatThreePositionColor();
+        mNativeShadow = enabled;
 
-                        drawRightBottomArcGradient(canvas,colors,floats);
+        if (!enabled) {
 
-                        drawLeftBottomArcGradient(canvas,colors,floats);
+            setElevation(0);
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
+            setOutlineProvider(ViewOutlineProvider.BACKGROUND);
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius);
+            invalidate();
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
+            return;
+        }
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
+        if (mOutlineProvider == null) {
+            mOutlineProvider = new ShadowOutlineProvider();
+        }
 
-                        floats = creatTwoPositionFloat();
+        float roundRadius = mShadowDrawable.getShadowShape() == SHAPE_ROUND_RECTANGLE ? mShadowDrawable.getRoundCornerRadii()[0] : 0;
 
-                        colors = creatTwoPositionColor();
+        mOutlineProvider.set(mInsetLeft, mInsetTop, mInsetRight, mInsetBottom, roundRadius);
 
-                        drawLeftTopRightAngle(canvas,colors,floats);
+        setOutlineProvider(mOutlineProvider);
 
-                        drawRightTopRightAngle(canvas,colors,floats);
+        invalidateOutline();
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
+        //平台阴影的模糊范围大约与 elevation 相当
+        setElevation(mShadowDrawable.getShadowRadius());
 
-                        floats = creatThreePositionFloat();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
 
-                        colors = creatThreePositionColor();
+            int color = mShadowDrawable.getShadowColor();
 
-                        drawRightTopArcGradient(canvas,colors,floats);
+            setOutlineAmbientShadowColor(color);
 
-                        drawLeftBottomArcGradient(canvas,colors,floats);
+            setOutlineSpotShadowColor(color);
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
+        }
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius);
+        invalidate();
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
+    }
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
+    /**
+     * 阴影占用的四周空间，不再通过 setPadding 实现，用户设置的 padding 会保留
+     * @return 是否有变化
+     */
+    private boolean updateShadowInsets() {
 
-                        floats = creatTwoPositionFloat();
+        int left = mShadowDrawable.getInsetLeft();
 
-                        colors = creatTwoPositionColor();
+        int top = mShadowDrawable.getInsetTop();
 
-                        drawLeftTopRightAngle(canvas,colors,floats);
+        int right = mShadowDrawable.getInsetRight();
 
-                        drawRightBottomRightAngle(canvas,colors,floats);
+        int bottom = mShadowDrawable.getInsetBottom();
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
+        if (left == mInsetLeft && top == mInsetTop && right == mInsetRight && bottom == mInsetBottom) {
+            return false;
+        }
 
+        mInsetLeft = left;
 
-                        floats = creatThreePositionFloat();
+        mInsetTop = top;
 
-                        colors = creatThreePositionColor();
+        mInsetRight = right;
 
-                        drawRightTopArcGradient(canvas,colors,floats);
+        mInsetBottom = bottom;
 
-                        drawRightBottomArcGradient(canvas,colors,floats);
+        return true;
+    }
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius);
+        mShadowDrawable.getRenderStats().measureCount++;
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
+        int horizontalInset = mInsetLeft + mInsetRight;
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
+        int verticalInset = mInsetTop + mInsetBottom;
 
-                        floats = creatTwoPositionFloat();
+        //先按去掉阴影后的空间测量一次，再把阴影加回去
+        super.onMeasure(shrinkMeasureSpec(widthMeasureSpec, horizontalInset),
+                shrinkMeasureSpec(heightMeasureSpec, verticalInset));
 
-                        colors = creatTwoPositionColor();
+        if (horizontalInset == 0 && verticalInset == 0) {
+            return;
+        }
 
-                        drawLeftTopRightAngle(canvas,colors,floats);
+        int width = (getMeasuredWidth() + horizontalInset) | (getMeasuredWidthAndState() & MEASURED_STATE_MASK);
 
-                        drawLeftBottomRightAngle(canvas,colors,floats);
+        int height = (getMeasuredHeight() + verticalInset) | (getMeasuredHeightAndState() & MEASURED_STATE_MASK);
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)!= CORNER_RIGHT_TOP){
+        setMeasuredDimension(width, height);
 
-                        floats = creatThreePositionFloat();
+    }
 
-                        colors = creatThreePositionColor();
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
 
-                        drawLeftTopArcGradient(canvas,colors,floats);
+        //与 FrameLayout 的摆放规则相同，只是区域去掉了阴影。
+        //子 view 直接摆到最终位置，位置没变时 child.layout 不会重新布局，OnLayoutChangeListener 也拿到最终坐标
+        mChildContainer.set(getPaddingLeft() + mInsetLeft, getPaddingTop() + mInsetTop,
+                right - left - getPaddingRight() - mInsetRight, bottom - top - getPaddingBottom() - mInsetBottom);
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius, mShadowRadius + mRoundCornerRadius);
+        for (int i = 0, count = getChildCount(); i < count; i++) {
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius);
+            View child = getChildAt(i);
 
-                        drawLeftBottomArcGradient(canvas,colors,floats);
+            if (child.getVisibility() == GONE) {
+                continue;
+            }
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mRoundCornerRadius-mShadowRadius,mViewHeight);
+            LayoutParams lp = (LayoutParams) child.getLayoutParams();
 
-                        drawRightBottomArcGradient(canvas,colors,floats);
+            int gravity = lp.gravity == -1 ? DEFAULT_CHILD_GRAVITY : lp.gravity;
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius,mViewWidth,mViewHeight-mRoundCornerRadius-mShadowRadius);
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+                gravity = Gravity.getAbsoluteGravity(gravity, getLayoutDirection());
+            }
 
-                        floats = creatTwoPositionFloat();
+            //FrameLayout 只区分居中、靠右（靠下）和默认的靠左（靠上），FILL 等也按默认处理
+            int horizontal = gravity & Gravity.HORIZONTAL_GRAVITY_MASK;
 
-                        colors = creatTwoPositionColor();
+            int vertical = gravity & Gravity.VERTICAL_GRAVITY_MASK;
 
-                        drawRightTopRightAngle(canvas,colors,floats);
+            if (horizontal != Gravity.CENTER_HORIZONTAL && horizontal != Gravity.RIGHT) {
+                horizontal = Gravity.LEFT;
+            }
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) != CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
+            if (vertical != Gravity.CENTER_VERTICAL && vertical != Gravity.BOTTOM) {
+                vertical = Gravity.TOP;
+            }
 
-                        floats = creatThreePositionFloat();
+            int xAdjust = horizontal == Gravity.CENTER_HORIZONTAL ? lp.leftMargin - lp.rightMargin
+                    : (horizontal == Gravity.RIGHT ? lp.rightMargin : lp.leftMargin);
 
-                        colors = creatThreePositionColor();
+            int yAdjust = vertical == Gravity.CENTER_VERTICAL ? lp.topMargin - lp.bottomMargin
+                    : (vertical == Gravity.BOTTOM ? lp.bottomMargin : lp.topMargin);
 
-                        drawLeftTopArcGradient(canvas,colors,floats);
+            Gravity.apply(horizontal | vertical, child.getMeasuredWidth(), child.getMeasuredHeight(),
+                    mChildContainer, xAdjust, yAdjust, mChildFrame);
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
+            child.layout(mChildFrame.left, mChildFrame.top, mChildFrame.right, mChildFrame.bottom);
+        }
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius);
+    }
 
-                        drawLeftBottomArcGradient(canvas,colors,floats);
+    private static int shrinkMeasureSpec(int measureSpec, int inset) {
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius,mViewHeight);
+        int mode = MeasureSpec.getMode(measureSpec);
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius);
+        if (inset == 0 || mode == MeasureSpec.UNSPECIFIED) {
+            return measureSpec;
+        }
 
-                        drawRightTopArcGradient(canvas,colors,floats);
+        return MeasureSpec.makeMeasureSpec(Math.max(0, MeasureSpec.getSize(measureSpec) - inset), mode);
+    }
 
-                        floats = creatTwoPositionFloat();
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
 
-                        colors = creatTwoPositionColor();
+        mShadowDrawable.setBounds(0, 0, w, h);
 
-                        drawRightBottomRightAngle(canvas,colors,floats);
+    }
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) == CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) != CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
 
-                        floats = creatThreePositionFloat();
+        //不再显示时取消后台渲染，重新 attach 后再按当前参数请求
+        mShadowDrawable.cancelPendingRenderAndReset();
 
-                        colors = creatThreePositionColor();
+    }
 
-                        drawLeftTopArcGradient(canvas,colors,floats);
+    @Override
+    protected boolean verifyDrawable(@NonNull Drawable who) {
+        return who == mShadowDrawable || super.verifyDrawable(who);
+    }
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius+mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius);
+        //平台绘制阴影时这里不用再画
+        if (!mNativeShadow) {
+            mShadowDrawable.draw(canvas);
+        }
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
+        if (mOnRenderStatsListener != null) {
+            mOnRenderStatsListener.onRenderStats(this, mShadowDrawable.getRenderStats());
+        }
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
+    }
 
-                        drawRightTopArcGradient(canvas,colors,floats);
+    /**
+     * 阴影参数变化后，阴影占用的空间变了才重新布局，平台阴影需要同步新的参数
+     */
+    private void onShadowSpecChanged() {
 
-                        drawRightBottomArcGradient(canvas,colors,floats);
+        if (updateShadowInsets()) {
+            requestLayout();
+        }
 
-                        floats = creatTwoPositionFloat();
+        if (mRenderMode == RENDER_NATIVE) {
+            applyRenderMode();
+        }
 
-                        colors = creatTwoPositionColor();
+    }
 
-                        drawLeftBottomRightAngle(canvas,colors,floats);
+    public void setShadowColor(int shadowColor) {
 
-                    }else if((mCornerPosition & CORNER_LEFT_TOP) != CORNER_LEFT_TOP && (mCornerPosition & CORNER_LEFT_BOTTOM) == CORNER_LEFT_BOTTOM && (mCornerPosition & CORNER_RIGHT_BOTTOM) == CORNER_RIGHT_BOTTOM && (mCornerPosition & CORNER_RIGHT_TOP)== CORNER_RIGHT_TOP){
+        mShadowDrawable.setShadowColor(shadowColor);
 
-                        floats = creatThreePositionFloat();
+        onShadowSpecChanged();
 
-                        colors = creatThreePositionColor();
+    }
 
-                        drawLeftBottomArcGradient(canvas,colors,floats);
+    public void setShadowRadius(float shadowRadius) {
 
-                        drawTopSide(canvas,colors,floats,mShadowRadius, 0, mViewWidth - mShadowRadius-mRoundCornerRadius, mShadowRadius + mRoundCornerRadius);
+        mShadowDrawable.setShadowRadius(shadowRadius);
 
-                        drawLeftSide(canvas,colors,floats,0,mShadowRadius,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius);
+        onShadowSpecChanged();
 
-                        drawBottomSide(canvas,colors,floats,mShadowRadius+mRoundCornerRadius,mViewHeight-mShadowRadius-mRoundCornerRadius,mViewWidth-mShadowRadius-mRoundCornerRadius,mViewHeight);
+    }
 
-                        drawRightSide(canvas,colors,floats,mViewWidth-mShadowRadius-mRoundCornerRadius,mShadowRadius+mRoundCornerRadius,mViewWidth,mViewHeight-mShadowRadius-mRoundCornerRadius);
+    /**
+     * 设置阴影所在的边
+     * @param shadowSide {@link #LEFT}、{@link #TOP}、{@link #RIGHT}、{@link #BOTTOM} 的组合
+     */
+    public void setShadowSide(int shadowSide) {
 
-                        drawRightTopArcGradient(canvas,colors,floats);
+        mShadowDrawable.setShadowSide(shadowSide);
 
-                        drawRightBottomArcGradient(canvas,colors,floats);
+        onShadowSpecChanged();
 
-                        floats = creatTwoPositionFloat();
+    }
 
-                        colors = creatTwoPositionColor();
+    /**
+     * 设置圆角所在的位置，只在 {@link #SHAPE_ROUND_RECTANGLE} 时生效
+     * @param cornerPosition {@link #CORNER_LEFT_TOP}、{@link #CORNER_LEFT_BOTTOM}、{@link #CORNER_RIGHT_TOP}、{@link #CORNER_RIGHT_BOTTOM} 的组合
+     */
+    public void setCornerPosition(int cornerPosition) {
 
-                        drawLeftTopRightAngle(canvas,colors,floats);
+        mShadowDrawable.setCornerPosition(cornerPosition);
 
-                    }
-                }
-            }
+        onShadowSpecChanged();
 
-        }
     }
 
     /**
-     * 画左上角阴影
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 一次设置全部阴影参数，只重新计算和布局一次。
+     * ShadowSpec 参数相同时是同一个对象，列表中重新绑定同一个 spec 什么也不做
+     * @param spec 通过 {@link ShadowSpec.Builder} 创建
      */
-    private void drawLeftTopArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public void setShadowSpec(ShadowSpec spec) {
+
+        mShadowDrawable.setShadowSpec(spec);
 
-        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius)), 180, 90);
+        onShadowSpecChanged();
 
     }
 
     /**
-     * 画左上角阴影，圆角朝下
-     * @param canvas
-     * @param colors
-     * @param floats
+     * @return 当前参数对应的共享 ShadowSpec
      */
-    private void drawLeftTopDownArcGradient(Canvas canvas,int[] colors,float[] floats){
-
-        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mRoundCornerRadius)), 180, 90);
-
+    public ShadowSpec getShadowSpec() {
+        return mShadowDrawable.getShadowSpec();
     }
 
     /**
-     * 画左上角阴影，圆角朝上
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 设置形状
+     * @param shadowShape {@link #SHAPE_RECTANGLE}、{@link #SHAPE_ROUND_RECTANGLE}、{@link #SHAPE_OVAL}、
+     *                    {@link #SHAPE_CIRCLE} 或 {@link #SHAPE_PATH}
      */
-    private void drawLeftTopUpArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public void setShadowShape(int shadowShape) {
 
-        drawArcRadialGradient(canvas, mRoundCornerRadius, mShadowRadius+mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, 0, 2 * (mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius)), 180, 90);
+        mShadowDrawable.setShadowShape(shadowShape);
+
+        onShadowSpecChanged();
 
     }
 
     /**
-     * 画右上角阴影
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 设置自定义形状的阴影，形状会切换为 {@link #SHAPE_PATH}。
+     * path 的坐标相对内容区域（去掉阴影空间后）的左上角，设置后不能再修改。
+     * 自定义形状的阴影只在尺寸变化时渲染一次，之后一直使用缓存的遮罩
      */
-    private void drawRightTopArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public void setShadowPath(Path path) {
 
-        RectF rf = new RectF(mViewWidth - 2*(mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2*(mShadowRadius + mRoundCornerRadius));
+        mShadowDrawable.setShadowPath(path);
 
-        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
+        onShadowSpecChanged();
 
     }
-    /**
-     * 画右上角阴影，圆角朝上
-     * @param canvas
-     * @param colors
-     * @param floats
-     */
-    private void drawRightTopUpArcGradient(Canvas canvas,int[] colors,float[] floats){
 
-        RectF rf = new RectF(mViewWidth - (2 * mRoundCornerRadius), 0, mViewWidth, 2 * (mShadowRadius + mRoundCornerRadius));
+    public void setRoundCornerRadius(float roundCornerRadius) {
+
+        mShadowDrawable.setRoundCornerRadius(roundCornerRadius);
 
-        drawArcRadialGradient(canvas, mViewWidth - mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
+        onShadowSpecChanged();
 
     }
+
     /**
-     * 画右上角阴影，圆角朝下
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 设置阴影变淡的曲线，非线性曲线预先采样成多色标渐变，绘制开销与线性相同
+     * @param falloff {@link #FALLOFF_LINEAR}、{@link #FALLOFF_GAUSSIAN} 或 {@link #FALLOFF_EASE_OUT}
      */
-    private void drawRightTopDownArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public void setShadowFalloff(int falloff) {
 
-        RectF rf = new RectF(mViewWidth - 2*(mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 2 * mRoundCornerRadius);
+        mShadowDrawable.setShadowFalloff(falloff);
 
-        drawArcRadialGradient(canvas, mViewWidth - mShadowRadius - mRoundCornerRadius, mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 270, 90);
+        onShadowSpecChanged();
 
     }
 
     /**
-     * 画左下角阴影
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 每个角单独设置圆角半径，只在 {@link #SHAPE_ROUND_RECTANGLE}、并且该角在圆角位置中时生效
      */
-    private void drawLeftBottomArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public void setRoundCornerRadii(float leftTop, float rightTop, float rightBottom, float leftBottom) {
 
-        RectF rf = new RectF(0, mViewHeight - 2 * (mShadowRadius + mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
+        mShadowDrawable.setRoundCornerRadii(leftTop, rightTop, rightBottom, leftBottom);
 
-        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
+        onShadowSpecChanged();
 
     }
 
     /**
-     * 画左下角阴影，圆角朝上
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 设置阴影偏移，偏移方向一侧的阴影变宽，另一侧变窄，缓存的阴影只做平移
+     * @param dx 正数向右
+     * @param dy 正数向下
      */
-    private void drawLeftBottomUpArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public void setShadowOffset(float dx, float dy) {
 
-        RectF rf = new RectF(0, mViewHeight - (2 * mRoundCornerRadius), 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight);
+        mShadowDrawable.setShadowOffset(dx, dy);
 
-        drawArcRadialGradient(canvas, mShadowRadius + mRoundCornerRadius, mViewHeight - (mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
+        onShadowSpecChanged();
 
     }
 
     /**
-     * 画左下角阴影，圆角朝下
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 设置阴影扩展，阴影先向外扩展 spread 再开始变淡，缓存的阴影只做拉伸
+     * @param spread
      */
-    private void drawLeftBottomDownArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public void setShadowSpread(float spread) {
 
-        RectF rf = new RectF(0, mViewHeight - 2 * (mShadowRadius + mRoundCornerRadius), 2 * mRoundCornerRadius, mViewHeight);
+        mShadowDrawable.setShadowSpread(spread);
 
-        drawArcRadialGradient(canvas,  mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 90, 90);
+        onShadowSpecChanged();
 
     }
 
-    /**
-     * 画右下角阴影
-     * @param canvas
-     * @param colors
-     * @param floats
-     */
-    private void drawRightBottomArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public int getShadowColor() {
+        return mShadowDrawable.getShadowColor();
+    }
 
-        RectF rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - 2 * (mShadowRadius + mRoundCornerRadius), mViewWidth, mViewHeight);
+    public float getShadowRadius() {
+        return mShadowDrawable.getShadowRadius();
+    }
 
-        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
+    public int getShadowSide() {
+        return mShadowDrawable.getShadowSide();
+    }
 
+    public int getCornerPosition() {
+        return mShadowDrawable.getCornerPosition();
     }
 
-    /**
-     * 画右下角阴影，圆角朝上
-     * @param canvas
-     * @param colors
-     * @param floats
-     */
-    private void drawRightBottomUpArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public int getShadowShape() {
+        return mShadowDrawable.getShadowShape();
+    }
 
-        RectF rf = new RectF(mViewWidth - 2 * (mShadowRadius + mRoundCornerRadius), mViewHeight - (2 * mRoundCornerRadius), mViewWidth, mViewHeight);
+    public float getRoundCornerRadius() {
+        return mShadowDrawable.getRoundCornerRadius();
+    }
 
-        drawArcRadialGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), mViewHeight - mRoundCornerRadius, mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
+    public int getShadowFalloff() {
+        return mShadowDrawable.getShadowFalloff();
+    }
 
+    public Path getShadowPath() {
+        return mShadowDrawable.getShadowPath();
     }
+
     /**
-     * 画右下角阴影，圆角朝下
-     * @param canvas
-     * @param colors
-     * @param floats
+     * @return 每个角的圆角半径，顺序：左上、右上、右下、左下
      */
-    private void drawRightBottomDownArcGradient(Canvas canvas,int[] colors,float[] floats){
+    public float[] getRoundCornerRadii() {
+        return mShadowDrawable.getRoundCornerRadii();
+    }
 
-        RectF rf = new RectF(mViewWidth - 2 * mRoundCornerRadius, mViewHeight - 2 * (mShadowRadius + mRoundCornerRadius), mViewWidth, mViewHeight);
+    public float getShadowDx() {
+        return mShadowDrawable.getShadowDx();
+    }
 
-        drawArcRadialGradient(canvas, mViewWidth - mRoundCornerRadius, mViewHeight - (mShadowRadius + mRoundCornerRadius), mShadowRadius + mRoundCornerRadius, colors, floats, Shader.TileMode.CLAMP, rf, 0, 90);
+    public float getShadowDy() {
+        return mShadowDrawable.getShadowDy();
+    }
 
+    public float getShadowSpread() {
+        return mShadowDrawable.getShadowSpread();
     }
 
     /**
-     * 圆角矩形，左边阴影
-     * @param canvas
-     * @param colors
-     * @param floats
-     * @param startX
-     * @param startY
-     * @param endX
-     * @param endY
+     * 设置阴影缓存方式
+     * @param cacheMode {@link #CACHE_NONE} 每帧直接绘制；{@link #CACHE_BITMAP} 渲染成与控件同尺寸的 Bitmap；
+     *                  {@link #CACHE_NINE_PATCH} 渲染成九宫格，尺寸变化时不需要重新渲染
      */
-    private void drawLeftSide(Canvas canvas,int[] colors,float[] floats,float startX,float startY,float endX,float endY){
-
-        drawRectLinearGradient(canvas, mShadowRadius + mRoundCornerRadius, 0, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(startX, startY, endX, endY));
+    public void setShadowCacheMode(int cacheMode) {
+        mShadowDrawable.setShadowCacheMode(cacheMode);
+    }
 
+    public int getShadowCacheMode() {
+        return mShadowDrawable.getShadowCacheMode();
     }
 
     /**
-     * 圆角矩形，下边阴影
-     * @param canvas
-     * @param colors
-     * @param floats
-     * @param startX
-     * @param startY
-     * @param endX
-     * @param endY
+     * 设置渲染方式
+     * @param renderMode {@link #RENDER_AUTO}、{@link #RENDER_SOFTWARE}、{@link #RENDER_HARDWARE} 或 {@link #RENDER_NATIVE}
      */
-    private void drawBottomSide(Canvas canvas,int[] colors,float[] floats,float startX,float startY,float endX,float endY){
+    public void setRenderMode(int renderMode) {
 
-        drawRectLinearGradient(canvas, 0, mViewHeight -(mShadowRadius + mRoundCornerRadius), 0, mViewHeight, colors, floats, Shader.TileMode.CLAMP, new RectF(startX, startY, endX, endY));
+        if (mRenderMode == renderMode) {
+            return;
+        }
 
-    }
+        mRenderMode = renderMode;
 
-    /**
-     * 圆角矩形，右边阴影
-     * @param canvas
-     * @param colors
-     * @param floats
-     * @param startX
-     * @param startY
-     * @param endX
-     * @param endY
-     */
-    private void drawRightSide(Canvas canvas,int[] colors,float[] floats,float startX,float startY,float endX,float endY){
+        applyRenderMode();
 
+        invalidate();
 
-        drawRectLinearGradient(canvas, mViewWidth - (mShadowRadius + mRoundCornerRadius), 0, mViewWidth, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(startX, startY, endX, endY));
+    }
 
+    public int getRenderMode() {
+        return mRenderMode;
     }
 
     /**
-     * 圆角矩形，上边阴影
-     * @param canvas
-     * @param colors
-     * @param floats
-     * @param startX
-     * @param startY
-     * @param endX
-     * @param endY
+     * 当前阴影是否由平台绘制，{@link #RENDER_NATIVE} 下参数无法用平台阴影表达时为 false
      */
-    private void drawTopSide(Canvas canvas,int[] colors,float[] floats,float startX,float startY,float endX,float endY){
-
-        drawRectLinearGradient(canvas, 0, mShadowRadius + mRoundCornerRadius, 0, 0, colors, floats, Shader.TileMode.CLAMP, new RectF(startX, startY, endX, endY));
-
+    public boolean isNativeShadow() {
+        return mNativeShadow;
     }
 
     /**
-     * 画左下直角的阴影
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 设置进程内共享阴影缓存的大小，默认是最大可用内存的 1/16
+     * @param maxBytes 字节数
      */
-    private void drawLeftBottomRightAngle(Canvas canvas,int[] colors,float[] floats){
-        drawArcRadialGradient(canvas, mShadowRadius, mViewHeight - mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0, mViewHeight - 2*mShadowRadius, 2*mShadowRadius, mViewHeight), 90, 90);
+    public static void setShadowCacheMaxSize(int maxBytes) {
+        ShadowCache.setMaxSize(maxBytes);
     }
+
     /**
-     * 画右下直角的阴影
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 清空进程内共享的阴影缓存，例如在 onTrimMemory 中调用
      */
-    private void drawRightBottomRightAngle(Canvas canvas,int[] colors,float[] floats){
-
-        drawArcRadialGradient(canvas, mViewWidth - mShadowRadius, mViewHeight-mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth - 2*mShadowRadius,mViewHeight-2*mShadowRadius,mViewWidth,mViewHeight), 0, 90);
-
+    public static void clearShadowCache() {
+        ShadowCache.clear();
     }
 
     /**
-     * 画左上直角的阴影
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 打开磁盘缓存，渲染过的阴影遮罩保存在 cacheDir 中，下次启动时直接读取，不需要在首帧重新渲染。
+     * 文件只读映射到内存，打开时只读取索引，可以在 Application.onCreate 中调用。
+     * 只对 {@link #CACHE_BITMAP} 和 {@link #CACHE_NINE_PATCH} 生效，自定义形状不会保存
+     * @param context
      */
-    private void drawLeftTopRightAngle(Canvas canvas,int[] colors,float[] floats){
+    public static void enableShadowDiskCache(Context context) {
+
+        Context appContext = context.getApplicationContext();
 
-        drawArcRadialGradient(canvas, mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(0,0,2*mShadowRadius,2*mShadowRadius), 180, 90);
+        ShadowDiskCache.open(new File(appContext.getCacheDir(), ShadowDiskCache.FILE_NAME),
+                appContext.getResources().getDisplayMetrics().density);
 
     }
+
     /**
-     * 画右上直角的阴影
-     * @param canvas
-     * @param colors
-     * @param floats
+     * 在后台线程提前渲染构建时收集到的九宫格阴影，需要在 app 中应用 fp-shadow-specs.gradle。
+     * 在 Application.onCreate 中调用，打开磁盘缓存时应在 {@link #enableShadowDiskCache(Context)} 之后调用，
+     * 之后的启动直接从磁盘读取
+     * @param context
      */
-    private void drawRightTopRightAngle(Canvas canvas,int[] colors,float[] floats){
-
-        drawArcRadialGradient(canvas, mViewWidth-mShadowRadius, mShadowRadius, mShadowRadius, colors, floats, Shader.TileMode.CLAMP, new RectF(mViewWidth-2*mShadowRadius,0,mViewWidth,2*mShadowRadius), 270, 90);
-
+    public static void preloadShadows(Context context) {
+        ShadowPreloader.preload(context);
     }
 
-
-    private float[] creatTwoPositionFloat() {
-
-        float[] floats = new float[]{0.01f, 1f};
-
-        return floats;
-
+    /**
+     * 停止使用磁盘缓存，已经保存的文件保留
+     */
+    public static void disableShadowDiskCache() {
+        ShadowDiskCache.close();
     }
 
-    private float[] creatThreePositionFloat() {
-
-        float[] floats = new float[]{mRoundCornerRadius / (mShadowRadius + mRoundCornerRadius), mRoundCornerRadius / (mShadowRadius + mRoundCornerRadius), 1f};
-
-        return floats;
+    /**
+     * 停止使用磁盘缓存并删除文件
+     */
+    public static void clearShadowDiskCache() {
+        ShadowDiskCache.clear();
     }
 
-    private int[] creatTwoPositionColor() {
-
-        int[] colors = new int[]{mShadowColor, 0x00ffffff};
-
-        return colors;
-
+    /**
+     * 设置磁盘缓存文件的大小，超出后不再保存新的阴影，默认 4MB
+     * @param maxBytes 字节数
+     */
+    public static void setShadowDiskCacheMaxSize(int maxBytes) {
+        ShadowDiskCache.setMaxSize(maxBytes);
     }
 
-    private int[] creatThreePositionColor() {
-
-        int[] colors = new int[]{0x00ffffff, mShadowColor, 0x00ffffff};
-
-        return colors;
-
+    /**
+     * 是否在后台线程渲染阴影，只在缓存方式为 {@link #CACHE_BITMAP} 或 {@link #CACHE_NINE_PATCH} 时生效。
+     * 渲染完成前不绘制阴影
+     * @param async
+     */
+    public void setShadowAsync(boolean async) {
+        mShadowDrawable.setShadowAsync(async);
     }
 
-    private void drawRectLinearGradient(Canvas canvas, float xStart, float yStart, float xEnd, float yEnd, int[] colors, float[] positions, Shader.TileMode tile, RectF rectF) {
-
-        LinearGradient linearGradient = new LinearGradient(xStart, yStart, xEnd, yEnd, colors, positions, tile);
-
-        mPaint.setShader(linearGradient);
-
-        canvas.drawRect(rectF, mPaint);
-
+    public boolean isShadowAsync() {
+        return mShadowDrawable.isShadowAsync();
     }
 
-    private void drawArcRadialGradient(Canvas canvas, float centerX, float centerY, float radius, int[] colors, float[] positions, Shader.TileMode tile, RectF rectF, float startAngle, float sweepAngle) {
-
-        RadialGradient linearGradient = new RadialGradient(centerX, centerY, radius, colors, positions, tile);
-
-        mPaint.setShader(linearGradient);
-
-        canvas.drawArc(rectF, startAngle, sweepAngle, true, mPaint);
+    /**
+     * 设置后台渲染阴影使用的线程池，默认是一个低优先级的单线程
+     * @param executor
+     */
+    public static void setShadowExecutor(Executor executor) {
+        ShadowRenderTask.setExecutor(executor);
     }
 
-
-
-    private float dip2px(float dpValue) {
-
-        DisplayMetrics dm = getContext().getResources().getDisplayMetrics();
-
-        float scale = dm.density;
-
-        return (dpValue * scale + 0.5F);
-
+    /**
+     * 渲染统计，计数一直开启
+     */
+    public FpShadowRenderStats getRenderStats() {
+        return mShadowDrawable.getRenderStats();
     }
 
-    public void setShadowColor(int shadowColor) {
-
-        mShadowColor = shadowColor;
-
-        requestLayout();
-
-        postInvalidate();
-
+    /**
+     * 是否统计 onDraw 耗时，默认关闭
+     * @param enabled
+     */
+    public void setRenderTimingEnabled(boolean enabled) {
+        mShadowDrawable.setRenderTimingEnabled(enabled);
     }
 
-    public void setShadowRadius(float shadowRadius) {
-
-        mShadowRadius = shadowRadius;
-
-        requestLayout();
-
-        postInvalidate();
+    public boolean isRenderTimingEnabled() {
+        return mShadowDrawable.isRenderTimingEnabled();
+    }
 
+    public void setOnRenderStatsListener(OnRenderStatsListener listener) {
+        mOnRenderStatsListener = listener;
     }
 }
@@ -0,0 +1,167 @@
+package com.mxy.fpshadowlayout;
+
+/**
+ * FpShadowLayout 的渲染统计。
+ * 计数一直开启，开销只是几次整数自增；onDraw 耗时需要通过 {@link FpShadowLayout#setRenderTimingEnabled(boolean)} 打开。
+ */
+public final class FpShadowRenderStats {
+
+    int measureCount;
+
+    int drawCount;
+
+    //重新生成绘制计划的次数
+    int planCompileCount;
+
+    //重新渲染缓存阴影（Bitmap 或九宫格）的次数
+    int shadowRenderCount;
+
+    //从磁盘缓存读取阴影、不需要渲染的次数
+    int diskLoadCount;
+
+    int shaderCount;
+
+    int bitmapCount;
+
+    long drawTimeNanos;
+
+    long maxDrawTimeNanos;
+
+    long lastDrawTimeNanos;
+
+    public int getMeasureCount() {
+        return measureCount;
+    }
+
+    public int getDrawCount() {
+        return drawCount;
+    }
+
+    public int getPlanCompileCount() {
+        return planCompileCount;
+    }
+
+    public int getShadowRenderCount() {
+        return shadowRenderCount;
+    }
+
+    public int getDiskLoadCount() {
+        return diskLoadCount;
+    }
+
+    /**
+     * 创建的 Shader 数量
+     */
+    public int getShaderCount() {
+        return shaderCount;
+    }
+
+    /**
+     * 创建的 Bitmap 数量
+     */
+    public int getBitmapCount() {
+        return bitmapCount;
+    }
+
+    /**
+     * onDraw 累计耗时，未打开计时时为 0
+     */
+    public long getDrawTimeNanos() {
+        return drawTimeNanos;
+    }
+
+    public long getMaxDrawTimeNanos() {
+        return maxDrawTimeNanos;
+    }
+
+    public long getLastDrawTimeNanos() {
+        return lastDrawTimeNanos;
+    }
+
+    public void reset() {
+
+        measureCount = 0;
+
+        drawCount = 0;
+
+        planCompileCount = 0;
+
+        shadowRenderCount = 0;
+
+        diskLoadCount = 0;
+
+        shaderCount = 0;
+
+        bitmapCount = 0;
+
+        drawTimeNanos = 0;
+
+        maxDrawTimeNanos = 0;
+
+        lastDrawTimeNanos = 0;
+
+    }
+
+    void onPlanCompiled(int shaders) {
+
+        planCompileCount++;
+
+        shaderCount += shaders;
+
+    }
+
+    void onShadowRendered(int shaders) {
+
+        shadowRenderCount++;
+
+        shaderCount += shaders;
+
+        bitmapCount++;
+
+    }
+
+    void onDiskCacheLoaded() {
+        diskLoadCount++;
+    }
+
+    void onDrawTimed(long nanos) {
+
+        drawTimeNanos += nanos;
+
+        lastDrawTimeNanos = nanos;
+
+        if (nanos > maxDrawTimeNanos) {
+            maxDrawTimeNanos = nanos;
+        }
+
+    }
+
+    /**
+     * 合并后台线程中统计的渲染次数
+     */
+    void addRenders(FpShadowRenderStats other) {
+
+        shadowRenderCount += other.shadowRenderCount;
+
+        diskLoadCount += other.diskLoadCount;
+
+        shaderCount += other.shaderCount;
+
+        bitmapCount += other.bitmapCount;
+
+    }
+
+    @Override
+    public String toString() {
+        return "FpShadowRenderStats{measure=" + measureCount
+                + ", draw=" + drawCount
+                + ", planCompile=" + planCompileCount
+                + ", shadowRender=" + shadowRenderCount
+                + ", diskLoad=" + diskLoadCount
+                + ", shaders=" + shaderCount
+                + ", bitmaps=" + bitmapCount
+                + ", drawTimeNanos=" + drawTimeNanos
+                + ", maxDrawTimeNanos=" + maxDrawTimeNanos
+                + '}';
+    }
+}
@@ -0,0 +1,78 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Bitmap;
+
+/**
+ * 进程内共享的阴影缓存，按字节数限制大小，超出时淘汰最久没用过的阴影。
+ * 相同参数、相同尺寸的控件共用同一张渲染结果，复用的 view 重新绑定时也能直接命中。
+ * 查找用 key 中预先算好的 64 位 packed 值，命中时不创建任何对象。
+ */
+final class ShadowCache {
+
+    private static final ShadowLruTable sCache = new ShadowLruTable(defaultMaxSize());
+
+    private ShadowCache() {
+    }
+
+    private static long defaultMaxSize() {
+        return Runtime.getRuntime().maxMemory() / 16;
+    }
+
+    static Bitmap getBitmap(ShadowKey key) {
+
+        Object value;
+
+        synchronized (sCache) {
+            value = sCache.get(key);
+        }
+
+        return value instanceof Bitmap ? (Bitmap) value : null;
+    }
+
+    static void putBitmap(ShadowKey key, Bitmap bitmap) {
+
+        ShadowKey copy = key.copy();
+
+        synchronized (sCache) {
+            sCache.put(copy, bitmap, bitmap.getByteCount());
+        }
+
+    }
+
+    static ShadowNinePatch getNinePatch(ShadowKey key) {
+
+        Object value;
+
+        synchronized (sCache) {
+            value = sCache.get(key);
+        }
+
+        return value instanceof ShadowNinePatch ? (ShadowNinePatch) value : null;
+    }
+
+    static void putNinePatch(ShadowKey key, ShadowNinePatch ninePatch) {
+
+        ShadowKey copy = key.copy();
+
+        synchronized (sCache) {
+            sCache.put(copy, ninePatch, ninePatch.getByteCount());
+        }
+
+    }
+
+    static void setMaxSize(int maxBytes) {
+
+        synchronized (sCache) {
+            sCache.setMaxSize(maxBytes);
+        }
+
+    }
+
+    static void clear() {
+
+        synchronized (sCache) {
+            sCache.clear();
+        }
+
+    }
+}
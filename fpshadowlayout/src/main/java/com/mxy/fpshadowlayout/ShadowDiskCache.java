@@ -0,0 +1,546 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Bitmap;
+import android.util.Log;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 持久化到磁盘的阴影遮罩，下次启动时直接读取，不需要在首帧重新渲染。
+ * 所有遮罩放在一个文件里，文件只读映射到内存，启动时只解析很小的索引，遮罩的像素在第一次使用时才由系统读入。
+ * 文件格式（小端）：
+ * <pre>
+ * 文件头：MAGIC、VERSION、density、条目数
+ * 索引：每个条目 {@link #ENTRY_INTS} 个 int，类型、ShadowKey 的各项参数、遮罩宽高、像素偏移和字节数
+ * 像素：ALPHA_8 遮罩的原始数据
+ * </pre>
+ * 版本或屏幕密度不同时整个文件作废。新渲染的遮罩在后台线程合并后整体重写，写入临时文件后再替换，不会留下写了一半的文件。
+ * 自定义形状的 Path 无法比较，不写入磁盘。
+ */
+final class ShadowDiskCache {
+
+    private static final String TAG = "FpShadowLayout";
+
+    static final String FILE_NAME = "fp_shadow_cache.bin";
+
+    //"FPSC"
+    private static final int MAGIC = 0x46505343;
+
+    //遮罩的渲染方式或文件格式变化时加 1，旧文件会被丢弃
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 16;
+
+    private static final int ENTRY_INTS = 16;
+
+    private static final int ENTRY_BYTES = ENTRY_INTS * 4;
+
+    private static final int TYPE_BITMAP = 0;
+
+    private static final int TYPE_NINE_PATCH = 1;
+
+    //默认最多 4MB，超出后不再写入新的遮罩
+    private static final int DEFAULT_MAX_BYTES = 4 * 1024 * 1024;
+
+    private static File sFile;
+
+    private static float sDensity;
+
+    private static int sMaxBytes = DEFAULT_MAX_BYTES;
+
+    //当前映射的文件，没有时为 null
+    private static MappedByteBuffer sBuffer;
+
+    //已经在文件中的遮罩
+    private static final Map<ShadowKey, Entry> sEntries = new HashMap<>();
+
+    //还没有写入文件的遮罩
+    private static final Map<ShadowKey, Entry> sPending = new HashMap<>();
+
+    private static int sByteCount;
+
+    private static boolean sSaveScheduled;
+
+    private static Executor sExecutor;
+
+    private ShadowDiskCache() {
+    }
+
+    /**
+     * 打开磁盘缓存并读取索引
+     * @param density 屏幕密度，与文件中的不同时丢弃文件
+     */
+    static synchronized void open(File file, float density) {
+
+        if (file.equals(sFile) && density == sDensity) {
+            return;
+        }
+
+        close();
+
+        sFile = file;
+
+        sDensity = density;
+
+        if (file.exists()) {
+            map(file, density);
+        }
+
+    }
+
+    /**
+     * 映射文件并读取索引，失败时当作没有文件
+     */
+    private static void map(File file, float density) {
+
+        sBuffer = null;
+
+        sEntries.clear();
+
+        RandomAccessFile raf = null;
+
+        try {
+
+            raf = new RandomAccessFile(file, "r");
+
+            //映射建立后关闭文件不影响读取
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (readIndex(buffer, density)) {
+                sBuffer = buffer;
+            } else {
+                sEntries.clear();
+            }
+
+        } catch (IOException | RuntimeException e) {
+
+            Log.w(TAG, "failed to open shadow disk cache", e);
+
+            sEntries.clear();
+
+        } finally {
+            closeQuietly(raf);
+        }
+
+        sByteCount = 0;
+
+        for (Entry entry : sEntries.values()) {
+            sByteCount += entry.length;
+        }
+
+        for (Entry entry : sPending.values()) {
+            sByteCount += entry.length;
+        }
+
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+
+        if (closeable == null) {
+            return;
+        }
+
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+
+    }
+
+    /**
+     * 停止使用磁盘缓存，已经写入的文件保留
+     */
+    static synchronized void close() {
+
+        sFile = null;
+
+        sBuffer = null;
+
+        sEntries.clear();
+
+        sPending.clear();
+
+        sByteCount = 0;
+
+    }
+
+    /**
+     * 停止使用并删除文件
+     */
+    static synchronized void clear() {
+
+        File file = sFile;
+
+        close();
+
+        if (file != null) {
+            file.delete();
+        }
+
+    }
+
+    static synchronized void setMaxSize(int maxBytes) {
+        sMaxBytes = maxBytes;
+    }
+
+    private static boolean readIndex(ByteBuffer buffer, float density) {
+
+        if (buffer.limit() < HEADER_BYTES
+                || buffer.getInt(0) != MAGIC
+                || buffer.getInt(4) != VERSION
+                || buffer.getFloat(8) != density) {
+            return false;
+        }
+
+        int count = buffer.getInt(12);
+
+        if (count < 0 || HEADER_BYTES + (long) count * ENTRY_BYTES > buffer.limit()) {
+            return false;
+        }
+
+        float[] cornerRadii = new float[4];
+
+        for (int i = 0; i < count; i++) {
+
+            int position = HEADER_BYTES + i * ENTRY_BYTES;
+
+            int type = buffer.getInt(position);
+
+            for (int j = 0; j < 4; j++) {
+                cornerRadii[j] = buffer.getFloat(position + 16 + j * 4);
+            }
+
+            ShadowKey key = new ShadowKey();
+
+            key.set(buffer.getInt(position + 4), buffer.getInt(position + 8), buffer.getFloat(position + 12), cornerRadii,
+                    buffer.getInt(position + 32), buffer.getInt(position + 36), buffer.getInt(position + 40), null);
+
+            Entry entry = new Entry(type, buffer.getInt(position + 44), buffer.getInt(position + 48));
+
+            entry.offset = buffer.getInt(position + 52);
+
+            entry.length = buffer.getInt(position + 56);
+
+            if (entry.offset < 0 || entry.length < 0 || (long) entry.offset + entry.length > buffer.limit()) {
+                return false;
+            }
+
+            sEntries.put(key, entry);
+        }
+
+        return true;
+    }
+
+    /**
+     * 从文件中读取与控件同尺寸的遮罩
+     * @return 没有时返回 null
+     */
+    static Bitmap getBitmap(ShadowKey key) {
+        return read(key, TYPE_BITMAP);
+    }
+
+    /**
+     * 从文件中读取九宫格
+     * @return 没有时返回 null
+     */
+    static ShadowNinePatch getNinePatch(ShadowKey key) {
+
+        Bitmap bitmap = read(key, TYPE_NINE_PATCH);
+
+        return bitmap == null ? null : new ShadowNinePatch(bitmap, bitmap.getWidth() / 3);
+    }
+
+    static void putBitmap(ShadowKey key, Bitmap bitmap) {
+        write(key, TYPE_BITMAP, bitmap);
+    }
+
+    static void putNinePatch(ShadowKey key, ShadowNinePatch ninePatch) {
+        write(key, TYPE_NINE_PATCH, ninePatch.getBitmap());
+    }
+
+    private static Bitmap read(ShadowKey key, int type) {
+
+        ByteBuffer source;
+
+        Entry entry;
+
+        synchronized (ShadowDiskCache.class) {
+
+            if (sBuffer == null || key.path != null) {
+                return null;
+            }
+
+            entry = sEntries.get(key);
+
+            if (entry == null || entry.type != type) {
+                return null;
+            }
+
+            //每次读取用独立的 position，多个线程可以同时读
+            source = sBuffer.duplicate();
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(entry.bitmapWidth, entry.bitmapHeight, Bitmap.Config.ALPHA_8);
+
+        if (bitmap.getByteCount() != entry.length) {
+            return null;
+        }
+
+        source.position(entry.offset);
+
+        source.limit(entry.offset + entry.length);
+
+        bitmap.copyPixelsFromBuffer(source);
+
+        return bitmap;
+    }
+
+    private static synchronized void write(ShadowKey key, int type, Bitmap bitmap) {
+
+        if (sFile == null || key.path != null || sEntries.containsKey(key) || sPending.containsKey(key)) {
+            return;
+        }
+
+        if (sByteCount + bitmap.getByteCount() > sMaxBytes) {
+            return;
+        }
+
+        Entry entry = new Entry(type, bitmap.getWidth(), bitmap.getHeight());
+
+        entry.bitmap = bitmap;
+
+        entry.length = bitmap.getByteCount();
+
+        sPending.put(key.copy(), entry);
+
+        sByteCount += entry.length;
+
+        if (!sSaveScheduled) {
+
+            sSaveScheduled = true;
+
+            getExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    save();
+                }
+            });
+        }
+
+    }
+
+    /**
+     * 把文件中原有的遮罩和新渲染的遮罩一起写入新文件
+     */
+    private static void save() {
+
+        File file;
+
+        float density;
+
+        ByteBuffer source;
+
+        List<Map.Entry<ShadowKey, Entry>> entries;
+
+        Map<ShadowKey, Entry> pending;
+
+        synchronized (ShadowDiskCache.class) {
+
+            sSaveScheduled = false;
+
+            file = sFile;
+
+            if (file == null || sPending.isEmpty()) {
+                return;
+            }
+
+            density = sDensity;
+
+            source = sBuffer == null ? null : sBuffer.duplicate();
+
+            entries = new ArrayList<>(sEntries.entrySet());
+
+            pending = new HashMap<>(sPending);
+
+            entries.addAll(pending.entrySet());
+        }
+
+        File temp = new File(file.getPath() + ".tmp");
+
+        try {
+
+            int indexBytes = HEADER_BYTES + entries.size() * ENTRY_BYTES;
+
+            ByteBuffer index = ByteBuffer.allocate(indexBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+            index.putInt(MAGIC).putInt(VERSION).putFloat(density).putInt(entries.size());
+
+            int offset = indexBytes;
+
+            for (Map.Entry<ShadowKey, Entry> item : entries) {
+
+                ShadowKey key = item.getKey();
+
+                Entry entry = item.getValue();
+
+                index.putInt(entry.type).putInt(key.width).putInt(key.height).putFloat(key.shadowRadius);
+
+                for (int j = 0; j < 4; j++) {
+                    index.putFloat(key.cornerRadii[j]);
+                }
+
+                index.putInt(key.side).putInt(key.shape).putInt(key.falloff)
+                        .putInt(entry.bitmapWidth).putInt(entry.bitmapHeight)
+                        .putInt(offset).putInt(entry.length)
+                        .putInt(0);
+
+                offset += entry.length;
+            }
+
+            index.flip();
+
+            FileOutputStream out = new FileOutputStream(temp);
+
+            try {
+
+                FileChannel channel = out.getChannel();
+
+                while (index.hasRemaining()) {
+                    channel.write(index);
+                }
+
+                for (Map.Entry<ShadowKey, Entry> item : entries) {
+
+                    Entry entry = item.getValue();
+
+                    ByteBuffer data;
+
+                    if (entry.bitmap != null) {
+
+                        data = ByteBuffer.allocate(entry.length);
+
+                        entry.bitmap.copyPixelsToBuffer(data);
+
+                        data.flip();
+
+                    } else {
+
+                        data = source.duplicate();
+
+                        data.position(entry.offset);
+
+                        data.limit(entry.offset + entry.length);
+                    }
+
+                    while (data.hasRemaining()) {
+                        channel.write(data);
+                    }
+                }
+
+                out.getFD().sync();
+
+            } finally {
+                closeQuietly(out);
+            }
+
+            synchronized (ShadowDiskCache.class) {
+
+                //写入期间关闭或删除了磁盘缓存
+                if (!file.equals(sFile)) {
+                    temp.delete();
+                    return;
+                }
+            }
+
+            if (!temp.renameTo(file)) {
+                throw new IOException("rename failed: " + temp);
+            }
+
+        } catch (IOException | RuntimeException e) {
+
+            Log.w(TAG, "failed to save shadow disk cache", e);
+
+            temp.delete();
+
+            return;
+        }
+
+        synchronized (ShadowDiskCache.class) {
+
+            if (file.equals(sFile)) {
+
+                for (ShadowKey key : pending.keySet()) {
+                    sPending.remove(key);
+                }
+
+                //换成新文件的映射，旧文件替换后原来的映射仍然有效，正在读取的线程不受影响
+                map(file, sDensity);
+            }
+        }
+
+    }
+
+    private static synchronized Executor getExecutor() {
+
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+
+                    Thread thread = new Thread(r, "FpShadowLayout-disk");
+
+                    thread.setDaemon(true);
+
+                    thread.setPriority(Thread.MIN_PRIORITY);
+
+                    return thread;
+                }
+            });
+        }
+
+        return sExecutor;
+    }
+
+    private static final class Entry {
+
+        final int type;
+
+        final int bitmapWidth;
+
+        final int bitmapHeight;
+
+        int offset;
+
+        int length;
+
+        //还没有写入文件的遮罩
+        Bitmap bitmap;
+
+        Entry(int type, int bitmapWidth, int bitmapHeight) {
+
+            this.type = type;
+
+            this.bitmapWidth = bitmapWidth;
+
+            this.bitmapHeight = bitmapHeight;
+
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Color;
+
+/**
+ * 阴影由内向外变淡的曲线。
+ * 非线性的曲线预先采样成一张一维查找表，生成渐变时作为多个色标传给 LinearGradient / RadialGradient，
+ * 每个像素的开销和两个色标的渐变一样，不需要 BlurMaskFilter。
+ */
+final class ShadowFalloff {
+
+    //查找表的采样数
+    private static final int LUT_SIZE = 16;
+
+    //高斯曲线在阴影外边缘处为 3 倍标准差
+    private static final float GAUSSIAN_EDGE = 3f;
+
+    private static final float[] GAUSSIAN_LUT = createGaussianLut();
+
+    private static final float[] EASE_OUT_LUT = createEaseOutLut();
+
+    private ShadowFalloff() {
+    }
+
+    /**
+     * 从 start 处的阴影颜色渐变到 1 处完全透明
+     * @param leading 是否在 start 之前补一个透明色标，圆角矩形的阴影从圆角半径处才开始
+     */
+    static int[] createColors(int falloff, int color, boolean leading) {
+
+        float[] lut = getLut(falloff);
+
+        int offset = leading ? 1 : 0;
+
+        if (lut == null) {
+
+            int[] colors = new int[2 + offset];
+
+            colors[offset] = color;
+
+            colors[offset + 1] = 0x00ffffff;
+
+            if (leading) {
+                colors[0] = 0x00ffffff;
+            }
+
+            return colors;
+        }
+
+        int[] colors = new int[lut.length + offset];
+
+        if (leading) {
+            colors[0] = 0x00ffffff;
+        }
+
+        int alpha = Color.alpha(color);
+
+        int red = Color.red(color);
+
+        int green = Color.green(color);
+
+        int blue = Color.blue(color);
+
+        for (int i = 0; i < lut.length; i++) {
+            colors[i + offset] = Color.argb(Math.round(alpha * lut[i]), red, green, blue);
+        }
+
+        return colors;
+    }
+
+    /**
+     * 与 {@link #createColors(int, int, boolean)} 对应的位置
+     * @param start 阴影颜色所在的位置
+     */
+    static float[] createPositions(int falloff, float start, boolean leading) {
+
+        float[] lut = getLut(falloff);
+
+        int count = lut == null ? 2 : lut.length;
+
+        int offset = leading ? 1 : 0;
+
+        float[] positions = new float[count + offset];
+
+        if (leading) {
+            positions[0] = start;
+        }
+
+        for (int i = 0; i < count; i++) {
+            positions[i + offset] = start + (1f - start) * i / (count - 1);
+        }
+
+        return positions;
+    }
+
+    /**
+     * @return 线性变淡时返回 null
+     */
+    private static float[] getLut(int falloff) {
+
+        if (falloff == FpShadowLayout.FALLOFF_GAUSSIAN) {
+            return GAUSSIAN_LUT;
+        }
+
+        if (falloff == FpShadowLayout.FALLOFF_EASE_OUT) {
+            return EASE_OUT_LUT;
+        }
+
+        return null;
+    }
+
+    /**
+     * 高斯模糊边缘的透明度，减去外边缘处的值，保证最外侧完全透明
+     */
+    private static float[] createGaussianLut() {
+
+        float[] lut = new float[LUT_SIZE];
+
+        double edge = Math.exp(-GAUSSIAN_EDGE * GAUSSIAN_EDGE / 2);
+
+        for (int i = 0; i < LUT_SIZE; i++) {
+
+            double x = GAUSSIAN_EDGE * i / (LUT_SIZE - 1);
+
+            lut[i] = (float) ((Math.exp(-x * x / 2) - edge) / (1 - edge));
+        }
+
+        return lut;
+    }
+
+    /**
+     * 靠近控件处很快变淡，外侧留一段较长的淡尾
+     */
+    private static float[] createEaseOutLut() {
+
+        float[] lut = new float[LUT_SIZE];
+
+        for (int i = 0; i < LUT_SIZE; i++) {
+
+            float t = 1f - (float) i / (LUT_SIZE - 1);
+
+            lut[i] = t * t;
+        }
+
+        return lut;
+    }
+}
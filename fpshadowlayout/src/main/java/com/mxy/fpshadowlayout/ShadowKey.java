@@ -0,0 +1,175 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Path;
+
+/**
+ * 阴影缓存的 key，包含影响阴影形状的全部参数。
+ * 缓存的是只有透明度的遮罩，颜色在绘制时通过画笔着色，不参与缓存。
+ * 圆角位置已经合并到每个角的圆角半径中（不是圆角时为 0），渲染结果相同的参数组合共用同一份缓存。
+ * 全部参数在 set 时压缩成一个 64 位的 {@link #packed}，缓存查找先比较这个 long，只有相同时才逐项比较。
+ */
+final class ShadowKey {
+
+    int width;
+
+    int height;
+
+    float shadowRadius;
+
+    //每个角的圆角半径，顺序：左上、右上、右下、左下
+    final float[] cornerRadii = new float[4];
+
+    int side;
+
+    int shape;
+
+    int falloff;
+
+    //自定义形状，按引用比较，设置后不能再修改
+    Path path;
+
+    //全部参数混合成的 64 位值，参数相同时一定相同，不同时几乎不会相同
+    long packed;
+
+    void set(int width, int height, float shadowRadius, float[] cornerRadii, int side, int shape, int falloff, Path path) {
+
+        this.width = width;
+
+        this.height = height;
+
+        this.shadowRadius = shadowRadius;
+
+        System.arraycopy(cornerRadii, 0, this.cornerRadii, 0, 4);
+
+        this.side = side;
+
+        this.shape = shape;
+
+        this.falloff = falloff;
+
+        this.path = path;
+
+        packed = pack();
+
+    }
+
+    void clear() {
+
+        width = 0;
+
+        height = 0;
+
+        shadowRadius = 0;
+
+        cornerRadii[0] = cornerRadii[1] = cornerRadii[2] = cornerRadii[3] = 0;
+
+        side = 0;
+
+        shape = 0;
+
+        falloff = 0;
+
+        path = null;
+
+        packed = 0;
+
+    }
+
+    /**
+     * 复制一份，放进缓存的 key 不能再被修改
+     */
+    ShadowKey copy() {
+
+        ShadowKey key = new ShadowKey();
+
+        key.set(width, height, shadowRadius, cornerRadii, side, shape, falloff, path);
+
+        return key;
+    }
+
+    /**
+     * 不创建新对象的比较，用在 onDraw 中
+     */
+    boolean matches(int width, int height, float shadowRadius, float[] cornerRadii, int side, int shape, int falloff, Path path) {
+
+        return this.width == width
+                && this.height == height
+                && this.shadowRadius == shadowRadius
+                && this.cornerRadii[0] == cornerRadii[0]
+                && this.cornerRadii[1] == cornerRadii[1]
+                && this.cornerRadii[2] == cornerRadii[2]
+                && this.cornerRadii[3] == cornerRadii[3]
+                && this.side == side
+                && this.shape == shape
+                && this.falloff == falloff
+                && this.path == path;
+    }
+
+    /**
+     * 每个字段依次混入，最后再打散一次，让低位也受所有字段影响，适合直接对表长取模
+     */
+    private long pack() {
+
+        long h = mix(0, width);
+
+        h = mix(h, height);
+
+        h = mix(h, bits(shadowRadius));
+
+        for (int i = 0; i < 4; i++) {
+            h = mix(h, bits(cornerRadii[i]));
+        }
+
+        h = mix(h, side);
+
+        h = mix(h, shape);
+
+        h = mix(h, falloff);
+
+        h = mix(h, System.identityHashCode(path));
+
+        h ^= h >>> 33;
+
+        h *= 0xff51afd7ed558ccdL;
+
+        h ^= h >>> 33;
+
+        h *= 0xc4ceb9fe1a85ec53L;
+
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    /**
+     * 加 0 把 -0 变成 0，与 matches 中 == 的结果一致
+     */
+    private static int bits(float value) {
+        return Float.floatToIntBits(value + 0f);
+    }
+
+    private static long mix(long h, int value) {
+        return (h ^ (value & 0xffffffffL)) * 0x9e3779b97f4a7c15L + 0x632be59bd9b4e019L;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ShadowKey)) {
+            return false;
+        }
+
+        ShadowKey key = (ShadowKey) o;
+
+        return packed == key.packed && key.matches(width, height, shadowRadius, cornerRadii, side, shape, falloff, path);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (packed ^ (packed >>> 32));
+    }
+}
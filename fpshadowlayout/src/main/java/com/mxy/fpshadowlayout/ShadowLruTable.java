@@ -0,0 +1,337 @@
+package com.mxy.fpshadowlayout;
+
+import java.util.Arrays;
+
+/**
+ * 以 {@link ShadowKey#packed} 为 key 的开放寻址哈希表，按字节数限制大小，超出时淘汰最久没用过的条目。
+ * 所有数据放在几个并列的数组里，线性探测查找，访问顺序用数组下标组成的双向链表记录，
+ * 查找和命中时不创建任何对象、不装箱；packed 相同时再逐项比较 key，不会因为碰撞取错阴影。
+ * 不是线程安全的，由 {@link ShadowCache} 加锁。
+ */
+final class ShadowLruTable {
+
+    private static final int NONE = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mPacked;
+
+    //为 null 表示空位
+    private ShadowKey[] mKeys;
+
+    private Object[] mValues;
+
+    private int[] mSizes;
+
+    //访问顺序，mHead 最近使用，mTail 最久没用
+    private int[] mPrev;
+
+    private int[] mNext;
+
+    private int mHead = NONE;
+
+    private int mTail = NONE;
+
+    private int mCount;
+
+    private long mByteCount;
+
+    private long mMaxBytes;
+
+    ShadowLruTable(long maxBytes) {
+
+        mMaxBytes = maxBytes;
+
+        allocate(MIN_CAPACITY);
+
+    }
+
+    private void allocate(int capacity) {
+
+        mPacked = new long[capacity];
+
+        mKeys = new ShadowKey[capacity];
+
+        mValues = new Object[capacity];
+
+        mSizes = new int[capacity];
+
+        mPrev = new int[capacity];
+
+        mNext = new int[capacity];
+
+        mHead = mTail = NONE;
+
+        mCount = 0;
+
+        mByteCount = 0;
+
+    }
+
+    /**
+     * @return 没有时返回 null
+     */
+    Object get(ShadowKey key) {
+
+        int slot = find(key);
+
+        if (slot == NONE) {
+            return null;
+        }
+
+        moveToHead(slot);
+
+        return mValues[slot];
+    }
+
+    /**
+     * @param key 放进表中后不能再修改
+     * @param size 占用的字节数
+     */
+    void put(ShadowKey key, Object value, int size) {
+
+        int slot = find(key);
+
+        if (slot != NONE) {
+
+            mByteCount += size - mSizes[slot];
+
+            mKeys[slot] = key;
+
+            mValues[slot] = value;
+
+            mSizes[slot] = size;
+
+            moveToHead(slot);
+
+        } else {
+
+            //负载超过 3/4 时扩容
+            if ((mCount + 1) * 4 > mKeys.length * 3) {
+                rehash(mKeys.length * 2);
+            }
+
+            insert(key, value, size);
+        }
+
+        trimToSize(mMaxBytes);
+
+    }
+
+    void setMaxSize(long maxBytes) {
+
+        mMaxBytes = maxBytes;
+
+        trimToSize(maxBytes);
+
+    }
+
+    void clear() {
+
+        Arrays.fill(mKeys, null);
+
+        Arrays.fill(mValues, null);
+
+        mHead = mTail = NONE;
+
+        mCount = 0;
+
+        mByteCount = 0;
+
+    }
+
+    private int find(ShadowKey key) {
+
+        long packed = key.packed;
+
+        int mask = mKeys.length - 1;
+
+        for (int i = home(packed, mask); mKeys[i] != null; i = (i + 1) & mask) {
+
+            if (mPacked[i] == packed && mKeys[i].equals(key)) {
+                return i;
+            }
+        }
+
+        return NONE;
+    }
+
+    private static int home(long packed, int mask) {
+        return (int) (packed ^ (packed >>> 32)) & mask;
+    }
+
+    private void insert(ShadowKey key, Object value, int size) {
+
+        int mask = mKeys.length - 1;
+
+        int slot = home(key.packed, mask);
+
+        while (mKeys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+
+        mPacked[slot] = key.packed;
+
+        mKeys[slot] = key;
+
+        mValues[slot] = value;
+
+        mSizes[slot] = size;
+
+        linkHead(slot);
+
+        mCount++;
+
+        mByteCount += size;
+
+    }
+
+    private void trimToSize(long maxBytes) {
+
+        while (mByteCount > maxBytes && mTail != NONE) {
+            remove(mTail);
+        }
+
+    }
+
+    /**
+     * 删除后把后面同一段探测序列中的条目往前移，不需要墓碑标记
+     */
+    private void remove(int slot) {
+
+        unlink(slot);
+
+        mCount--;
+
+        mByteCount -= mSizes[slot];
+
+        int mask = mKeys.length - 1;
+
+        int hole = slot;
+
+        for (int i = (slot + 1) & mask; mKeys[i] != null; i = (i + 1) & mask) {
+
+            int home = home(mPacked[i], mask);
+
+            //home 在 (hole, i] 之间的条目留在原位
+            boolean stay = hole <= i ? hole < home && home <= i : hole < home || home <= i;
+
+            if (!stay) {
+                move(i, hole);
+                hole = i;
+            }
+        }
+
+        mKeys[hole] = null;
+
+        mValues[hole] = null;
+
+    }
+
+    /**
+     * 把条目从 from 移到空位 to，同时修正访问顺序链表
+     */
+    private void move(int from, int to) {
+
+        mPacked[to] = mPacked[from];
+
+        mKeys[to] = mKeys[from];
+
+        mValues[to] = mValues[from];
+
+        mSizes[to] = mSizes[from];
+
+        mPrev[to] = mPrev[from];
+
+        mNext[to] = mNext[from];
+
+        if (mPrev[to] != NONE) {
+            mNext[mPrev[to]] = to;
+        } else {
+            mHead = to;
+        }
+
+        if (mNext[to] != NONE) {
+            mPrev[mNext[to]] = to;
+        } else {
+            mTail = to;
+        }
+
+    }
+
+    /**
+     * 按从旧到新的顺序重新插入，保留访问顺序
+     */
+    private void rehash(int capacity) {
+
+        ShadowKey[] keys = mKeys;
+
+        Object[] values = mValues;
+
+        int[] sizes = mSizes;
+
+        int[] prev = mPrev;
+
+        int slot = mTail;
+
+        allocate(capacity);
+
+        while (slot != NONE) {
+
+            insert(keys[slot], values[slot], sizes[slot]);
+
+            slot = prev[slot];
+        }
+
+    }
+
+    private void moveToHead(int slot) {
+
+        if (mHead == slot) {
+            return;
+        }
+
+        unlink(slot);
+
+        linkHead(slot);
+
+    }
+
+    private void linkHead(int slot) {
+
+        mPrev[slot] = NONE;
+
+        mNext[slot] = mHead;
+
+        if (mHead != NONE) {
+            mPrev[mHead] = slot;
+        }
+
+        mHead = slot;
+
+        if (mTail == NONE) {
+            mTail = slot;
+        }
+
+    }
+
+    private void unlink(int slot) {
+
+        int prev = mPrev[slot];
+
+        int next = mNext[slot];
+
+        if (prev != NONE) {
+            mNext[prev] = next;
+        } else {
+            mHead = next;
+        }
+
+        if (next != NONE) {
+            mPrev[next] = prev;
+        } else {
+            mTail = prev;
+        }
+
+    }
+}
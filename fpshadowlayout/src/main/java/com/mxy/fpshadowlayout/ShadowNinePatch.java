@@ -0,0 +1,433 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import static com.mxy.fpshadowlayout.FpShadowLayout.BOTTOM;
+import static com.mxy.fpshadowlayout.FpShadowLayout.LEFT;
+import static com.mxy.fpshadowlayout.FpShadowLayout.RIGHT;
+import static com.mxy.fpshadowlayout.FpShadowLayout.SHAPE_RECTANGLE;
+import static com.mxy.fpshadowlayout.FpShadowLayout.SHAPE_ROUND_RECTANGLE;
+import static com.mxy.fpshadowlayout.FpShadowLayout.TOP;
+import static com.mxy.fpshadowlayout.ShadowPlanCompiler.CORNER_AT_BOTTOM;
+import static com.mxy.fpshadowlayout.ShadowPlanCompiler.CORNER_AT_RIGHT;
+import static com.mxy.fpshadowlayout.ShadowPlanCompiler.CORNER_H_SIDE;
+import static com.mxy.fpshadowlayout.ShadowPlanCompiler.CORNER_V_SIDE;
+
+/**
+ * 与尺寸无关的九宫格阴影。
+ * 四个角和四条边只在一张很小的图上渲染一次，绘制时四个角原样绘制，边沿长度方向拉伸，
+ * 所以同一组阴影参数可以用在任意尺寸的控件上。
+ * 四个角的圆角半径相同时，图片分成大小相同的 3x3 格，整圈阴影用一次 drawBitmapMesh 画出，不再分 8 次绘制，格子之间也不会有接缝。
+ * 圆角半径不同时不再为每种组合渲染一整张图，而是由共享的图块拼成：每个角按 (阴影大小, 圆角半径, 变淡曲线, 角的类型)
+ * 渲染成左上角的图块，其他角翻转绘制；两条边各是一个 1 像素长的图块。图块通过 {@link ShadowRenderer#obtainBitmap} 取得，
+ * 和其他遮罩一样放在内存和磁盘缓存中，不同的组合之间共用。
+ */
+final class ShadowNinePatch {
+
+    //拼接的九宫格为 null
+    private final Bitmap mBitmap;
+
+    //四周不拉伸的宽度，中间一格同样宽，沿长度方向每一列（行）都相同，可以任意拉伸
+    private final int mSlice;
+
+    //4x4 个网格顶点
+    private final float[] mVerts;
+
+    //拼接时阴影所在的边
+    private final int mSide;
+
+    //拼接时每个角的图块，都按左上角渲染，顺序：左上、右上、右下、左下，没有角时为 null
+    private final Bitmap[] mCorners;
+
+    //拼接时左右两边共用的图块，宽为阴影大小、高 1 像素
+    private final Bitmap mVerticalEdge;
+
+    //拼接时上下两边共用的图块，宽 1 像素、高为阴影大小
+    private final Bitmap mHorizontalEdge;
+
+    private final RectF mTileBounds;
+
+    ShadowNinePatch(Bitmap bitmap, int slice) {
+
+        mBitmap = bitmap;
+
+        mSlice = slice;
+
+        mVerts = new float[32];
+
+        mSide = 0;
+
+        mCorners = null;
+
+        mVerticalEdge = null;
+
+        mHorizontalEdge = null;
+
+        mTileBounds = null;
+
+    }
+
+    private ShadowNinePatch(int side, Bitmap[] corners, Bitmap verticalEdge, Bitmap horizontalEdge) {
+
+        mBitmap = null;
+
+        mSlice = 0;
+
+        mVerts = null;
+
+        mSide = side;
+
+        mCorners = corners;
+
+        mVerticalEdge = verticalEdge;
+
+        mHorizontalEdge = horizontalEdge;
+
+        mTileBounds = new RectF();
+
+    }
+
+    /**
+     * 四个角的圆角半径是否相同，相同时渲染成一整张图
+     */
+    static boolean isUniform(float[] cornerRadii) {
+        return cornerRadii[0] == cornerRadii[1] && cornerRadii[1] == cornerRadii[2] && cornerRadii[2] == cornerRadii[3];
+    }
+
+    /**
+     * 渲染九宫格遮罩，绘制时用画笔颜色着色
+     * @return 没有阴影时返回 null
+     */
+    static ShadowNinePatch create(int side, float shadowRadius, float[] cornerRadii, int falloff,
+                                  FpShadowRenderStats stats) {
+
+        if (shadowRadius <= 0) {
+            return null;
+        }
+
+        float maxRoundRadius = Math.max(Math.max(cornerRadii[0], cornerRadii[1]), Math.max(cornerRadii[2], cornerRadii[3]));
+
+        float extent = shadowRadius + maxRoundRadius;
+
+        int slice = (int) Math.ceil(extent);
+
+        int size = 3 * slice;
+
+        ShadowPlan plan = new ShadowPlan();
+
+        ShadowPlanCompiler.compile(plan, side, shadowRadius, cornerRadii, falloff, ShadowRenderer.MASK_COLOR, size, size);
+
+        Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ALPHA_8);
+
+        plan.draw(new Canvas(bitmap), new Paint(Paint.ANTI_ALIAS_FLAG));
+
+        stats.onShadowRendered(plan.size());
+
+        return new ShadowNinePatch(bitmap, slice);
+    }
+
+    /**
+     * 用共享的图块拼成九宫格，四个角的圆角半径不同时使用
+     * @return 没有阴影时返回 null
+     */
+    static ShadowNinePatch createTiled(int side, float shadowRadius, float[] cornerRadii, int falloff,
+                                       FpShadowRenderStats stats) {
+
+        if (shadowRadius <= 0) {
+            return null;
+        }
+
+        ShadowKey key = new ShadowKey();
+
+        float[] radii = new float[4];
+
+        Bitmap[] corners = new Bitmap[4];
+
+        //与 ShadowPlanCompiler 中角的类型和范围相同，只是都换成左上角
+        for (int i = 0; i < 4; i++) {
+
+            boolean vertical = (side & CORNER_V_SIDE[i]) == CORNER_V_SIDE[i];
+
+            boolean horizontal = (side & CORNER_H_SIDE[i]) == CORNER_H_SIDE[i];
+
+            float rr = cornerRadii[i];
+
+            float total = shadowRadius + rr;
+
+            int tileSide;
+
+            float extentX;
+
+            float extentY;
+
+            if (vertical && horizontal) {
+                tileSide = LEFT | TOP;
+                extentX = extentY = rr > 0 ? total : shadowRadius;
+            } else if (vertical && rr > 0) {
+                tileSide = LEFT;
+                extentX = total;
+                extentY = rr;
+            } else if (horizontal && rr > 0) {
+                tileSide = TOP;
+                extentX = rr;
+                extentY = total;
+            } else {
+                continue;
+            }
+
+            radii[0] = rr;
+
+            //图块向上取整，多出来的部分正好是相邻边的阴影
+            key.set((int) Math.ceil(extentX), (int) Math.ceil(extentY), shadowRadius, radii, tileSide,
+                    rr > 0 ? SHAPE_ROUND_RECTANGLE : SHAPE_RECTANGLE, falloff, null);
+
+            corners[i] = ShadowRenderer.obtainBitmap(key, stats);
+        }
+
+        radii[0] = 0;
+
+        int thickness = (int) Math.ceil(shadowRadius);
+
+        Bitmap verticalEdge = null;
+
+        Bitmap horizontalEdge = null;
+
+        if ((side & (LEFT | RIGHT)) != 0) {
+
+            key.set(thickness, 1, shadowRadius, radii, LEFT, SHAPE_RECTANGLE, falloff, null);
+
+            verticalEdge = ShadowRenderer.obtainBitmap(key, stats);
+        }
+
+        if ((side & (TOP | BOTTOM)) != 0) {
+
+            key.set(1, thickness, shadowRadius, radii, TOP, SHAPE_RECTANGLE, falloff, null);
+
+            horizontalEdge = ShadowRenderer.obtainBitmap(key, stats);
+        }
+
+        return new ShadowNinePatch(side, corners, verticalEdge, horizontalEdge);
+    }
+
+    /**
+     * 目标区域是否放得下四个角
+     */
+    boolean canDraw(float width, float height) {
+
+        if (mBitmap != null) {
+            return width >= 2 * mSlice && height >= 2 * mSlice;
+        }
+
+        return width >= cornerWidth(0) + cornerWidth(1) && width >= cornerWidth(3) + cornerWidth(2)
+                && height >= cornerHeight(0) + cornerHeight(3) && height >= cornerHeight(1) + cornerHeight(2);
+    }
+
+    /**
+     * 拼接的九宫格返回所有图块的大小，图块同时也单独放在缓存中
+     */
+    int getByteCount() {
+
+        if (mBitmap != null) {
+            return mBitmap.getByteCount();
+        }
+
+        int byteCount = 0;
+
+        for (int i = 0; i < 4; i++) {
+            if (mCorners[i] != null) {
+                byteCount += mCorners[i].getByteCount();
+            }
+        }
+
+        if (mVerticalEdge != null) {
+            byteCount += mVerticalEdge.getByteCount();
+        }
+
+        if (mHorizontalEdge != null) {
+            byteCount += mHorizontalEdge.getByteCount();
+        }
+
+        return byteCount;
+    }
+
+    /**
+     * @return 拼接的九宫格返回 null，图块已经分别保存
+     */
+    Bitmap getBitmap() {
+        return mBitmap;
+    }
+
+    private int cornerWidth(int corner) {
+        return mCorners[corner] == null ? 0 : mCorners[corner].getWidth();
+    }
+
+    private int cornerHeight(int corner) {
+        return mCorners[corner] == null ? 0 : mCorners[corner].getHeight();
+    }
+
+    /**
+     * 把九宫格拉伸绘制到 bounds 中，只有一次绘制调用
+     * @param canvas
+     * @param bounds
+     * @param paint 不要带 FILTER_BITMAP_FLAG，拉伸的部分才不会和角混色
+     */
+    void draw(Canvas canvas, RectF bounds, Paint paint) {
+        draw(canvas, bounds, paint, 1);
+    }
+
+    /**
+     * 按比例缩放四周的宽度后绘制，阴影大小做动画时近似表示其他大小的阴影，不需要重新渲染
+     * @param scale 新阴影大小与渲染时阴影大小的比例
+     */
+    void draw(Canvas canvas, RectF bounds, Paint paint, float scale) {
+
+        if (mBitmap == null) {
+            drawTiles(canvas, bounds, paint, scale);
+            return;
+        }
+
+        float[] verts = mVerts;
+
+        float slice = mSlice * scale;
+
+        for (int row = 0; row < 4; row++) {
+
+            float y = row == 0 ? bounds.top : (row == 1 ? bounds.top + slice : (row == 2 ? bounds.bottom - slice : bounds.bottom));
+
+            for (int column = 0; column < 4; column++) {
+
+                int index = (row * 4 + column) * 2;
+
+                verts[index] = column == 0 ? bounds.left : (column == 1 ? bounds.left + slice : (column == 2 ? bounds.right - slice : bounds.right));
+
+                verts[index + 1] = y;
+            }
+        }
+
+        //drawBitmapMesh 把图片均匀地分到网格上，每格正好对应图片中的一格
+        canvas.drawBitmapMesh(mBitmap, 3, 3, verts, 0, null, 0, paint);
+
+    }
+
+    /**
+     * 拼接的九宫格，每个角和每条边各绘制一次
+     */
+    private void drawTiles(Canvas canvas, RectF bounds, Paint paint, float scale) {
+
+        float width = bounds.width();
+
+        float height = bounds.height();
+
+        for (int i = 0; i < 4; i++) {
+            if (mCorners[i] != null) {
+                drawTile(canvas, mCorners[i], bounds, i, 0, 0, cornerWidth(i) * scale, cornerHeight(i) * scale, paint);
+            }
+        }
+
+        //每条边在所在的角的坐标系中，从一个角的图块画到另一个角的图块
+        if (mVerticalEdge != null) {
+
+            float thickness = mVerticalEdge.getWidth() * scale;
+
+            if ((mSide & LEFT) == LEFT) {
+                drawTile(canvas, mVerticalEdge, bounds, 0, 0, cornerHeight(0) * scale,
+                        thickness, height - cornerHeight(3) * scale, paint);
+            }
+
+            if ((mSide & RIGHT) == RIGHT) {
+                drawTile(canvas, mVerticalEdge, bounds, 1, 0, cornerHeight(1) * scale,
+                        thickness, height - cornerHeight(2) * scale, paint);
+            }
+        }
+
+        if (mHorizontalEdge != null) {
+
+            float thickness = mHorizontalEdge.getHeight() * scale;
+
+            if ((mSide & TOP) == TOP) {
+                drawTile(canvas, mHorizontalEdge, bounds, 0, cornerWidth(0) * scale, 0,
+                        width - cornerWidth(1) * scale, thickness, paint);
+            }
+
+            if ((mSide & BOTTOM) == BOTTOM) {
+                drawTile(canvas, mHorizontalEdge, bounds, 3, cornerWidth(3) * scale, 0,
+                        width - cornerWidth(2) * scale, thickness, paint);
+            }
+        }
+
+    }
+
+    /**
+     * 在某个角的坐标系中绘制图块：原点在这个角上，x、y 指向控件内部，按左上角渲染的图块翻转后就是这个角
+     */
+    private void drawTile(Canvas canvas, Bitmap tile, RectF bounds, int corner,
+                          float left, float top, float right, float bottom, Paint paint) {
+
+        if (right <= left || bottom <= top) {
+            return;
+        }
+
+        canvas.save();
+
+        canvas.translate(CORNER_AT_RIGHT[corner] ? bounds.right : bounds.left, CORNER_AT_BOTTOM[corner] ? bounds.bottom : bounds.top);
+
+        canvas.scale(CORNER_AT_RIGHT[corner] ? -1 : 1, CORNER_AT_BOTTOM[corner] ? -1 : 1);
+
+        mTileBounds.set(left, top, right, bottom);
+
+        canvas.drawBitmap(tile, null, mTileBounds, paint);
+
+        canvas.restore();
+
+    }
+
+    /**
+     * 把按控件尺寸渲染的完整遮罩当作九宫格绘制，四周 slice 宽的部分按比例缩放，中间拉伸。
+     * CACHE_BITMAP 的阴影大小做动画时使用，和九宫格缓存一样不需要重新渲染
+     * @param slice 遮罩中四个角的宽度
+     * @param scale 新阴影大小与渲染时阴影大小的比例
+     * @param src 临时对象
+     * @param dst 临时对象
+     */
+    static void drawSliced(Canvas canvas, Bitmap bitmap, int slice, RectF bounds, Paint paint, float scale,
+                           Rect src, RectF dst) {
+
+        int width = bitmap.getWidth();
+
+        int height = bitmap.getHeight();
+
+        float scaled = slice * scale;
+
+        for (int row = 0; row < 3; row++) {
+
+            src.top = row == 0 ? 0 : (row == 1 ? slice : height - slice);
+
+            src.bottom = row == 0 ? slice : (row == 1 ? height - slice : height);
+
+            dst.top = row == 0 ? bounds.top : (row == 1 ? bounds.top + scaled : bounds.bottom - scaled);
+
+            dst.bottom = row == 0 ? bounds.top + scaled : (row == 1 ? bounds.bottom - scaled : bounds.bottom);
+
+            for (int column = 0; column < 3; column++) {
+
+                src.left = column == 0 ? 0 : (column == 1 ? slice : width - slice);
+
+                src.right = column == 0 ? slice : (column == 1 ? width - slice : width);
+
+                dst.left = column == 0 ? bounds.left : (column == 1 ? bounds.left + scaled : bounds.right - scaled);
+
+                dst.right = column == 0 ? bounds.left + scaled : (column == 1 ? bounds.right - scaled : bounds.right);
+
+                //尺寸正好是两个角时中间一格是空的
+                if (!src.isEmpty() && !dst.isEmpty()) {
+                    canvas.drawBitmap(bitmap, src, dst, paint);
+                }
+            }
+        }
+
+    }
+}
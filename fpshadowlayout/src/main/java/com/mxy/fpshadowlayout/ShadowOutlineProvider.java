@@ -0,0 +1,56 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Outline;
+import android.os.Build;
+import android.support.annotation.RequiresApi;
+import android.view.View;
+import android.view.ViewOutlineProvider;
+
+/**
+ * {@link FpShadowLayout#RENDER_NATIVE} 使用的轮廓。
+ * 轮廓是去掉阴影空间后的内容区域，平台在 RenderThread 上按轮廓和 elevation 绘制阴影。
+ */
+@RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+final class ShadowOutlineProvider extends ViewOutlineProvider {
+
+    private int mInsetLeft, mInsetTop, mInsetRight, mInsetBottom;
+
+    private float mRoundRadius;
+
+    /**
+     * @param roundRadius 矩形时为 0
+     */
+    void set(int insetLeft, int insetTop, int insetRight, int insetBottom, float roundRadius) {
+
+        mInsetLeft = insetLeft;
+
+        mInsetTop = insetTop;
+
+        mInsetRight = insetRight;
+
+        mInsetBottom = insetBottom;
+
+        mRoundRadius = roundRadius;
+
+    }
+
+    @Override
+    public void getOutline(View view, Outline outline) {
+
+        int right = view.getWidth() - mInsetRight;
+
+        int bottom = view.getHeight() - mInsetBottom;
+
+        if (right <= mInsetLeft || bottom <= mInsetTop) {
+            outline.setEmpty();
+            return;
+        }
+
+        if (mRoundRadius > 0) {
+            outline.setRoundRect(mInsetLeft, mInsetTop, right, bottom, mRoundRadius);
+        } else {
+            outline.setRect(mInsetLeft, mInsetTop, right, bottom);
+        }
+
+    }
+}
@@ -0,0 +1,122 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.graphics.Shader;
+
+import java.util.ArrayList;
+
+/**
+ * 预先计算好的阴影绘制计划。
+ * 尺寸或阴影参数变化时重新生成，onDraw 中只按顺序执行，不再分配对象。
+ */
+final class ShadowPlan {
+
+    static final int TYPE_RECT = 0;
+
+    static final int TYPE_ARC = 1;
+
+    private final ArrayList<Primitive> mPrimitives = new ArrayList<>();
+
+    private int mCount;
+
+    /**
+     * 清空计划，已有的图元对象会被复用
+     */
+    void reset() {
+
+        for (int i = 0; i < mCount; i++) {
+            mPrimitives.get(i).shader = null;
+        }
+
+        mCount = 0;
+
+    }
+
+    int size() {
+        return mCount;
+    }
+
+    void addRect(Shader shader, float left, float top, float right, float bottom) {
+
+        Primitive primitive = obtain();
+
+        primitive.type = TYPE_RECT;
+
+        primitive.shader = shader;
+
+        primitive.bounds.set(left, top, right, bottom);
+
+    }
+
+    void addArc(Shader shader, float left, float top, float right, float bottom, float startAngle, float sweepAngle) {
+
+        Primitive primitive = obtain();
+
+        primitive.type = TYPE_ARC;
+
+        primitive.shader = shader;
+
+        primitive.bounds.set(left, top, right, bottom);
+
+        primitive.startAngle = startAngle;
+
+        primitive.sweepAngle = sweepAngle;
+
+    }
+
+    /**
+     * 按顺序执行绘制计划
+     * @param canvas
+     * @param paint
+     */
+    void draw(Canvas canvas, Paint paint) {
+
+        for (int i = 0; i < mCount; i++) {
+
+            Primitive primitive = mPrimitives.get(i);
+
+            paint.setShader(primitive.shader);
+
+            if (primitive.type == TYPE_RECT) {
+                canvas.drawRect(primitive.bounds, paint);
+            } else {
+                canvas.drawArc(primitive.bounds, primitive.startAngle, primitive.sweepAngle, true, paint);
+            }
+        }
+
+        paint.setShader(null);
+
+    }
+
+    private Primitive obtain() {
+
+        Primitive primitive;
+
+        if (mCount < mPrimitives.size()) {
+            primitive = mPrimitives.get(mCount);
+        } else {
+            primitive = new Primitive();
+            mPrimitives.add(primitive);
+        }
+
+        mCount++;
+
+        return primitive;
+
+    }
+
+    private static final class Primitive {
+
+        int type;
+
+        Shader shader;
+
+        final RectF bounds = new RectF();
+
+        float startAngle;
+
+        float sweepAngle;
+    }
+}
@@ -0,0 +1,216 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.LinearGradient;
+import android.graphics.RadialGradient;
+import android.graphics.Shader;
+
+import static com.mxy.fpshadowlayout.FpShadowLayout.BOTTOM;
+import static com.mxy.fpshadowlayout.FpShadowLayout.LEFT;
+import static com.mxy.fpshadowlayout.FpShadowLayout.RIGHT;
+import static com.mxy.fpshadowlayout.FpShadowLayout.TOP;
+
+/**
+ * 把 (阴影边, 每个角的圆角半径, 阴影大小) 编译成 {@link ShadowPlan}。
+ * 四个角、四条边都由下面的表描述，不再为每种组合单独写分支。
+ */
+final class ShadowPlanCompiler {
+
+    //角的顺序：左上、右上、右下、左下，角所在的竖直边和水平边
+    static final int[] CORNER_V_SIDE = {LEFT, RIGHT, RIGHT, LEFT};
+
+    static final int[] CORNER_H_SIDE = {TOP, TOP, BOTTOM, BOTTOM};
+
+    //角在 x / y 方向上是否贴着控件的右边 / 下边
+    static final boolean[] CORNER_AT_RIGHT = {false, true, true, false};
+
+    static final boolean[] CORNER_AT_BOTTOM = {false, false, true, true};
+
+    //扇形的起始角度
+    private static final float[] CORNER_START_ANGLE = {180, 270, 0, 90};
+
+    //边的顺序：左、上、右、下
+    private static final int[] SIDE_FLAGS = {LEFT, TOP, RIGHT, BOTTOM};
+
+    private static final boolean[] SIDE_VERTICAL = {true, false, true, false};
+
+    private static final boolean[] SIDE_FAR = {false, false, true, true};
+
+    //边两端的角，先是靠近原点的一端
+    private static final int[] SIDE_START_CORNER = {0, 0, 1, 3};
+
+    private static final int[] SIDE_END_CORNER = {3, 1, 2, 2};
+
+    //角的类型
+    private static final int CORNER_NONE = 0;
+
+    //两条边都有阴影，圆角
+    private static final int CORNER_JOINED_ROUND = 1;
+
+    //两条边都有阴影，直角
+    private static final int CORNER_JOINED_SQUARE = 2;
+
+    //只有竖直边有阴影，圆角收尾
+    private static final int CORNER_END_VERTICAL = 3;
+
+    //只有水平边有阴影，圆角收尾
+    private static final int CORNER_END_HORIZONTAL = 4;
+
+    private ShadowPlanCompiler() {
+    }
+
+    /**
+     * 生成绘制计划
+     * @param plan 输出，会先被清空
+     * @param side 阴影所在的边
+     * @param shadowRadius 阴影大小
+     * @param cornerRadii 每个角的圆角半径，顺序：左上、右上、右下、左下，直角为 0
+     * @param falloff 阴影变淡的曲线
+     * @param color 阴影颜色
+     * @param width 控件宽
+     * @param height 控件高
+     */
+    static void compile(ShadowPlan plan, int side, float shadowRadius, float[] cornerRadii,
+                        int falloff, int color, float width, float height) {
+
+        plan.reset();
+
+        if (shadowRadius <= 0 || width <= 0 || height <= 0) {
+            return;
+        }
+
+        float r = shadowRadius;
+
+        //边只画在内容外侧 r 的范围内，从内容边缘开始变淡
+        int[] sideColors = ShadowFalloff.createColors(falloff, color, false);
+
+        float[] sidePositions = ShadowFalloff.createPositions(falloff, 0f, false);
+
+        //圆角从圆角半径处开始变淡，前面补一个透明色标，每个角的位置不同
+        int[] roundColors = null;
+
+        float[] cornerInsetV = new float[4];
+
+        float[] cornerInsetH = new float[4];
+
+        //先画四个角，同时算出每条边两端需要让出的长度
+        for (int i = 0; i < 4; i++) {
+
+            boolean vertical = (side & CORNER_V_SIDE[i]) == CORNER_V_SIDE[i];
+
+            boolean horizontal = (side & CORNER_H_SIDE[i]) == CORNER_H_SIDE[i];
+
+            float rr = cornerRadii[i];
+
+            boolean rounded = rr > 0;
+
+            float total = r + rr;
+
+            float extentX;
+
+            float extentY;
+
+            int type;
+
+            if (vertical && horizontal) {
+                type = rounded ? CORNER_JOINED_ROUND : CORNER_JOINED_SQUARE;
+                extentX = extentY = rounded ? total : r;
+            } else if (vertical && rounded) {
+                type = CORNER_END_VERTICAL;
+                extentX = total;
+                extentY = rr;
+            } else if (horizontal && rounded) {
+                type = CORNER_END_HORIZONTAL;
+                extentX = rr;
+                extentY = total;
+            } else {
+                type = CORNER_NONE;
+                extentX = extentY = 0;
+            }
+
+            //竖直边在这一端让出 extentY，水平边让出 extentX
+            cornerInsetV[i] = type == CORNER_END_HORIZONTAL ? 0 : extentY;
+
+            cornerInsetH[i] = type == CORNER_END_VERTICAL ? 0 : extentX;
+
+            if (type == CORNER_NONE) {
+                continue;
+            }
+
+            float cx = CORNER_AT_RIGHT[i] ? width - extentX : extentX;
+
+            float cy = CORNER_AT_BOTTOM[i] ? height - extentY : extentY;
+
+            float left = CORNER_AT_RIGHT[i] ? width - 2 * extentX : 0;
+
+            float top = CORNER_AT_BOTTOM[i] ? height - 2 * extentY : 0;
+
+            Shader shader;
+
+            if (type == CORNER_JOINED_SQUARE) {
+
+                shader = new RadialGradient(cx, cy, r, sideColors, sidePositions, Shader.TileMode.CLAMP);
+
+            } else {
+
+                if (roundColors == null) {
+                    roundColors = ShadowFalloff.createColors(falloff, color, true);
+                }
+
+                shader = new RadialGradient(cx, cy, total, roundColors,
+                        ShadowFalloff.createPositions(falloff, rr / total, true), Shader.TileMode.CLAMP);
+            }
+
+            plan.addArc(shader, left, top, left + 2 * extentX, top + 2 * extentY, CORNER_START_ANGLE[i], 90);
+        }
+
+        //再画四条边
+        float thickness = r;
+
+        for (int i = 0; i < 4; i++) {
+
+            if ((side & SIDE_FLAGS[i]) != SIDE_FLAGS[i]) {
+                continue;
+            }
+
+            int start = SIDE_START_CORNER[i];
+
+            int end = SIDE_END_CORNER[i];
+
+            Shader shader;
+
+            if (SIDE_VERTICAL[i]) {
+
+                float startY = cornerInsetV[start];
+
+                float endY = height - cornerInsetV[end];
+
+                float left = SIDE_FAR[i] ? width - thickness : 0;
+
+                float inner = SIDE_FAR[i] ? left : thickness;
+
+                float outer = SIDE_FAR[i] ? width : 0;
+
+                shader = new LinearGradient(inner, 0, outer, 0, sideColors, sidePositions, Shader.TileMode.CLAMP);
+
+                plan.addRect(shader, left, startY, left + thickness, endY);
+
+            } else {
+
+                float startX = cornerInsetH[start];
+
+                float endX = width - cornerInsetH[end];
+
+                float top = SIDE_FAR[i] ? height - thickness : 0;
+
+                float inner = SIDE_FAR[i] ? top : thickness;
+
+                float outer = SIDE_FAR[i] ? height : 0;
+
+                shader = new LinearGradient(0, inner, 0, outer, sideColors, sidePositions, Shader.TileMode.CLAMP);
+
+                plan.addRect(shader, startX, top, endX, top + thickness);
+            }
+        }
+
+    }
+}
@@ -0,0 +1,190 @@
+package com.mxy.fpshadowlayout;
+
+import android.content.Context;
+import android.util.DisplayMetrics;
+import android.util.Log;
+import android.util.TypedValue;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * 按构建时生成的 assets/fp_shadow_specs.txt 在后台线程提前渲染九宫格阴影，放进进程共享的缓存（打开磁盘缓存时也会保存到磁盘）。
+ * 文件由 fp-shadow-specs.gradle 生成，每行一个阴影：
+ * <pre>
+ * side shape corner falloff radius leftTop rightTop rightBottom leftBottom
+ * </pre>
+ * 尺寸带 dp / px 等单位，在这里按 aapt 的定点格式舍入后再按屏幕密度换算，与 TypedArray.getDimension 的结果逐位相同，
+ * 所以和布局中的阴影命中同一份缓存。
+ */
+final class ShadowPreloader implements Runnable {
+
+    private static final String TAG = "FpShadowLayout";
+
+    static final String ASSET_NAME = "fp_shadow_specs.txt";
+
+    private final Context mContext;
+
+    private ShadowPreloader(Context context) {
+        mContext = context;
+    }
+
+    static void preload(Context context) {
+        ShadowRenderTask.getExecutor().execute(new ShadowPreloader(context.getApplicationContext()));
+    }
+
+    @Override
+    public void run() {
+
+        DisplayMetrics metrics = mContext.getResources().getDisplayMetrics();
+
+        ShadowKey key = new ShadowKey();
+
+        float[] roundRadii = new float[4];
+
+        float[] cornerRadii = new float[4];
+
+        //预加载的渲染次数不计入任何 view
+        FpShadowRenderStats stats = new FpShadowRenderStats();
+
+        BufferedReader reader = null;
+
+        try {
+
+            reader = new BufferedReader(new InputStreamReader(mContext.getAssets().open(ASSET_NAME), "UTF-8"));
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+
+                line = line.trim();
+
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] fields = line.split("\\s+");
+
+                if (fields.length != 9) {
+                    continue;
+                }
+
+                int side = Integer.parseInt(fields[0]);
+
+                int shape = Integer.parseInt(fields[1]);
+
+                int corner = Integer.parseInt(fields[2]);
+
+                int falloff = Integer.parseInt(fields[3]);
+
+                float radius = parseDimension(fields[4], metrics);
+
+                for (int i = 0; i < 4; i++) {
+                    roundRadii[i] = parseDimension(fields[5 + i], metrics);
+                }
+
+                FpShadowDrawable.foldCornerRadii(cornerRadii, roundRadii, shape, corner);
+
+                //九宫格的 key 不包含尺寸，与 FpShadowDrawable 中相同
+                key.set(0, 0, radius, cornerRadii, side, shape, falloff, null);
+
+                ShadowRenderer.obtainNinePatch(key, stats);
+            }
+
+        } catch (FileNotFoundException e) {
+
+            Log.w(TAG, ASSET_NAME + " not found, apply fp-shadow-specs.gradle in the app module");
+
+        } catch (IOException | RuntimeException e) {
+
+            Log.w(TAG, "failed to preload shadows", e);
+
+        } finally {
+
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+    }
+
+    /**
+     * 与 TypedArray.getDimension 相同的换算：布局中的尺寸被 aapt 编码成定点数，读取时先还原成 float 再按单位换算。
+     * 2.3dp 这样无法精确表示的值直接 parseFloat 会差一点，ShadowKey 逐位比较时就命中不了
+     */
+    private static float parseDimension(String value, DisplayMetrics metrics) {
+
+        int unit;
+
+        int suffix;
+
+        if (value.endsWith("dip")) {
+            unit = TypedValue.COMPLEX_UNIT_DIP;
+            suffix = 3;
+        } else if (value.endsWith("dp")) {
+            unit = TypedValue.COMPLEX_UNIT_DIP;
+            suffix = 2;
+        } else if (value.endsWith("sp")) {
+            unit = TypedValue.COMPLEX_UNIT_SP;
+            suffix = 2;
+        } else if (value.endsWith("px")) {
+            unit = TypedValue.COMPLEX_UNIT_PX;
+            suffix = 2;
+        } else {
+            throw new IllegalArgumentException("unsupported dimension: " + value);
+        }
+
+        float number = Float.parseFloat(value.substring(0, value.length() - suffix));
+
+        return TypedValue.applyDimension(unit, TypedValue.complexToFloat(floatToComplex(number)), metrics);
+    }
+
+    /**
+     * 与 aapt 中 floatToComplex 相同的编码：24 位尾数，按数值大小选 4 种小数位数之一，不包含单位
+     */
+    static int floatToComplex(float value) {
+
+        boolean negative = value < 0;
+
+        if (negative) {
+            value = -value;
+        }
+
+        //23 位小数的定点数
+        long bits = (long) (value * (1 << 23) + 0.5f);
+
+        int radix;
+
+        int shift;
+
+        if ((bits & 0x7fffffL) == 0) {
+            radix = TypedValue.COMPLEX_RADIX_23p0;
+            shift = 23;
+        } else if ((bits & 0xffffffffff800000L) == 0) {
+            radix = TypedValue.COMPLEX_RADIX_0p23;
+            shift = 0;
+        } else if ((bits & 0xffffffff80000000L) == 0) {
+            radix = TypedValue.COMPLEX_RADIX_8p15;
+            shift = 8;
+        } else if ((bits & 0xffffff8000000000L) == 0) {
+            radix = TypedValue.COMPLEX_RADIX_16p7;
+            shift = 16;
+        } else {
+            radix = TypedValue.COMPLEX_RADIX_23p0;
+            shift = 23;
+        }
+
+        int mantissa = (int) ((bits >> shift) & TypedValue.COMPLEX_MANTISSA_MASK);
+
+        if (negative) {
+            mantissa = -mantissa & TypedValue.COMPLEX_MANTISSA_MASK;
+        }
+
+        return (radix << TypedValue.COMPLEX_RADIX_SHIFT) | (mantissa << TypedValue.COMPLEX_MANTISSA_SHIFT);
+    }
+}
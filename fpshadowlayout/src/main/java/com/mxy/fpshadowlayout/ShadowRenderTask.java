@@ -0,0 +1,110 @@
+package com.mxy.fpshadowlayout;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 在后台线程渲染阴影，完成后回到主线程通知 view。
+ * view 重新绑定或尺寸变化时调用 {@link #cancel()}，已经过期的结果不会再回调。
+ */
+final class ShadowRenderTask implements Runnable {
+
+    interface Callback {
+
+        void onShadowRendered(ShadowRenderTask task, Object result, FpShadowRenderStats stats);
+    }
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+
+    private static Executor sExecutor;
+
+    final ShadowKey key;
+
+    final int cacheMode;
+
+    private final Callback mCallback;
+
+    private volatile boolean mCancelled;
+
+    ShadowRenderTask(ShadowKey key, int cacheMode, Callback callback) {
+
+        this.key = key.copy();
+
+        this.cacheMode = cacheMode;
+
+        mCallback = callback;
+
+    }
+
+    static synchronized void setExecutor(Executor executor) {
+        sExecutor = executor;
+    }
+
+    static void execute(ShadowRenderTask task) {
+        getExecutor().execute(task);
+    }
+
+    static synchronized Executor getExecutor() {
+
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+
+                    Thread thread = new Thread(r, "FpShadowLayout-render");
+
+                    thread.setDaemon(true);
+
+                    thread.setPriority(Thread.MIN_PRIORITY);
+
+                    return thread;
+                }
+            });
+        }
+
+        return sExecutor;
+    }
+
+    void cancel() {
+        mCancelled = true;
+    }
+
+    boolean isCancelled() {
+        return mCancelled;
+    }
+
+    @Override
+    public void run() {
+
+        if (mCancelled) {
+            return;
+        }
+
+        final Object result;
+
+        //后台线程单独统计，回到主线程后再合并
+        final FpShadowRenderStats stats = new FpShadowRenderStats();
+
+        if (cacheMode == FpShadowLayout.CACHE_NINE_PATCH) {
+            result = ShadowRenderer.obtainNinePatch(key, stats);
+        } else {
+            result = ShadowRenderer.obtainBitmap(key, stats);
+        }
+
+        sMainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+
+                if (!mCancelled) {
+                    mCallback.onShadowRendered(ShadowRenderTask.this, result, stats);
+                }
+
+            }
+        });
+
+    }
+}
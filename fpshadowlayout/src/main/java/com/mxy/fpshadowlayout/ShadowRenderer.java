@@ -0,0 +1,197 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Bitmap;
+import android.graphics.BlurMaskFilter;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RadialGradient;
+import android.graphics.RectF;
+import android.graphics.Shader;
+
+/**
+ * 按 {@link ShadowKey} 渲染阴影，先查进程共享的缓存，再查磁盘缓存，都没有时再渲染并放进缓存。
+ * 渲染结果是 ALPHA_8 的遮罩，只占 ARGB_8888 的 1/4 内存，绘制时用画笔颜色着色，同一张遮罩可以用于任意颜色。
+ * 不依赖 view，可以在后台线程调用。
+ */
+final class ShadowRenderer {
+
+    //渲染遮罩时使用的颜色，只有透明度会保留下来
+    static final int MASK_COLOR = 0xff000000;
+
+    private ShadowRenderer() {
+    }
+
+    /**
+     * 取与控件同尺寸的阴影 Bitmap
+     * @param stats 缓存中没有、需要重新渲染时记录到这里
+     * @return 没有阴影时返回 null
+     */
+    static Bitmap obtainBitmap(ShadowKey key, FpShadowRenderStats stats) {
+
+        Bitmap bitmap = ShadowCache.getBitmap(key);
+
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        bitmap = ShadowDiskCache.getBitmap(key);
+
+        if (bitmap != null) {
+
+            stats.onDiskCacheLoaded();
+
+            ShadowCache.putBitmap(key, bitmap);
+
+            return bitmap;
+        }
+
+        if (isShape(key.shape)) {
+            return obtainShapeBitmap(key, stats);
+        }
+
+        ShadowPlan plan = new ShadowPlan();
+
+        ShadowPlanCompiler.compile(plan, key.side, key.shadowRadius, key.cornerRadii,
+                key.falloff, MASK_COLOR, key.width, key.height);
+
+        if (plan.size() == 0) {
+            return null;
+        }
+
+        bitmap = Bitmap.createBitmap(key.width, key.height, Bitmap.Config.ALPHA_8);
+
+        plan.draw(new Canvas(bitmap), new Paint(Paint.ANTI_ALIAS_FLAG));
+
+        stats.onShadowRendered(plan.size());
+
+        ShadowCache.putBitmap(key, bitmap);
+
+        ShadowDiskCache.putBitmap(key, bitmap);
+
+        return bitmap;
+    }
+
+    /**
+     * 取九宫格阴影，key 中的尺寸不参与渲染。四个角的圆角半径不同时由共享的角和边的图块拼成
+     * @param stats 缓存中没有、需要重新渲染时记录到这里
+     * @return 没有阴影时返回 null
+     */
+    static ShadowNinePatch obtainNinePatch(ShadowKey key, FpShadowRenderStats stats) {
+
+        ShadowNinePatch ninePatch = ShadowCache.getNinePatch(key);
+
+        if (ninePatch != null) {
+            return ninePatch;
+        }
+
+        //四个角不同时由共享的图块拼成，图块本身已经放进内存和磁盘缓存
+        if (!ShadowNinePatch.isUniform(key.cornerRadii)) {
+
+            ninePatch = ShadowNinePatch.createTiled(key.side, key.shadowRadius, key.cornerRadii, key.falloff, stats);
+
+            if (ninePatch != null) {
+                ShadowCache.putNinePatch(key, ninePatch);
+            }
+
+            return ninePatch;
+        }
+
+        ninePatch = ShadowDiskCache.getNinePatch(key);
+
+        if (ninePatch != null) {
+
+            stats.onDiskCacheLoaded();
+
+            ShadowCache.putNinePatch(key, ninePatch);
+
+            return ninePatch;
+        }
+
+        ninePatch = ShadowNinePatch.create(key.side, key.shadowRadius, key.cornerRadii, key.falloff, stats);
+
+        if (ninePatch != null) {
+
+            ShadowCache.putNinePatch(key, ninePatch);
+
+            ShadowDiskCache.putNinePatch(key, ninePatch);
+        }
+
+        return ninePatch;
+    }
+
+    /**
+     * 是否是圆形、椭圆或自定义形状，这些形状只能渲染成与控件同尺寸的遮罩
+     */
+    static boolean isShape(int shape) {
+        return shape == FpShadowLayout.SHAPE_OVAL || shape == FpShadowLayout.SHAPE_CIRCLE || shape == FpShadowLayout.SHAPE_PATH;
+    }
+
+    /**
+     * 渲染圆形、椭圆或自定义形状的遮罩。
+     * 圆形直接用径向渐变，支持阴影变淡的曲线；椭圆和自定义形状用 BlurMaskFilter 模糊一次，只在渲染遮罩时使用，绘制时不再模糊。
+     * 形状内部也是实心的，偏移后露出的部分同样有阴影
+     */
+    private static Bitmap obtainShapeBitmap(ShadowKey key, FpShadowRenderStats stats) {
+
+        if (key.shadowRadius <= 0 || key.width <= 0 || key.height <= 0
+                || (key.shape == FpShadowLayout.SHAPE_PATH && key.path == null)) {
+            return null;
+        }
+
+        float r = key.shadowRadius;
+
+        //去掉阴影后的内容区域
+        RectF content = new RectF((key.side & FpShadowLayout.LEFT) != 0 ? r : 0, (key.side & FpShadowLayout.TOP) != 0 ? r : 0,
+                key.width - ((key.side & FpShadowLayout.RIGHT) != 0 ? r : 0), key.height - ((key.side & FpShadowLayout.BOTTOM) != 0 ? r : 0));
+
+        if (content.width() <= 0 || content.height() <= 0) {
+            return null;
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(key.width, key.height, Bitmap.Config.ALPHA_8);
+
+        Canvas canvas = new Canvas(bitmap);
+
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+        paint.setColor(MASK_COLOR);
+
+        if (key.shape == FpShadowLayout.SHAPE_CIRCLE) {
+
+            float radius = Math.min(content.width(), content.height()) / 2;
+
+            float total = radius + r;
+
+            paint.setShader(new RadialGradient(content.centerX(), content.centerY(), total,
+                    ShadowFalloff.createColors(key.falloff, MASK_COLOR, false),
+                    ShadowFalloff.createPositions(key.falloff, radius / total, false), Shader.TileMode.CLAMP));
+
+            canvas.drawCircle(content.centerX(), content.centerY(), total, paint);
+
+        } else {
+
+            //BlurMaskFilter 的模糊范围大约是 3 倍标准差，标准差约为 0.57735 * radius + 0.5
+            paint.setMaskFilter(new BlurMaskFilter(Math.max(0.5f, (r / 3 - 0.5f) / 0.57735f), BlurMaskFilter.Blur.NORMAL));
+
+            if (key.shape == FpShadowLayout.SHAPE_OVAL) {
+
+                canvas.drawOval(content, paint);
+
+            } else {
+
+                canvas.translate(content.left, content.top);
+
+                canvas.drawPath(key.path, paint);
+
+            }
+        }
+
+        stats.onShadowRendered(1);
+
+        ShadowCache.putBitmap(key, bitmap);
+
+        ShadowDiskCache.putBitmap(key, bitmap);
+
+        return bitmap;
+    }
+}
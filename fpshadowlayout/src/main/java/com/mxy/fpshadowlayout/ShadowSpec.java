@@ -0,0 +1,409 @@
+package com.mxy.fpshadowlayout;
+
+import android.graphics.Path;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.WeakHashMap;
+
+/**
+ * 不可变的阴影参数，通过 {@link Builder} 创建。
+ * 创建出来的对象都经过 intern，参数相同的 ShadowSpec 是同一个对象，可以直接用 == 比较，
+ * 大量相同的卡片共用一个对象，{@link FpShadowLayout#setShadowSpec(ShadowSpec)} 传入同一个对象时什么也不做。
+ * hashCode 在创建时算好，可以作为 map 的 key。
+ * 只包含阴影本身的参数，尺寸由布局决定，缓存方式等绘制策略仍然单独设置。
+ */
+public final class ShadowSpec {
+
+    //已经创建的 ShadowSpec，没有引用后自动移除
+    private static final WeakHashMap<ShadowSpec, WeakReference<ShadowSpec>> sPool = new WeakHashMap<>();
+
+    private final int mShadowColor;
+
+    private final float mShadowRadius;
+
+    private final int mShadowSide;
+
+    private final int mShadowShape;
+
+    private final int mCornerPosition;
+
+    private final float mRoundCornerRadius;
+
+    //顺序：左上、右上、右下、左下
+    private final float[] mRoundCornerRadii;
+
+    private final int mShadowFalloff;
+
+    private final float mShadowDx, mShadowDy;
+
+    private final float mShadowSpread;
+
+    //按引用比较
+    private final Path mShadowPath;
+
+    private final int mHash;
+
+    private ShadowSpec(Builder builder) {
+
+        mShadowColor = builder.mShadowColor;
+
+        mShadowRadius = builder.mShadowRadius;
+
+        mShadowSide = builder.mShadowSide;
+
+        mShadowShape = builder.mShadowShape;
+
+        mCornerPosition = builder.mCornerPosition;
+
+        mRoundCornerRadius = builder.mRoundCornerRadius;
+
+        mRoundCornerRadii = builder.mRoundCornerRadii.clone();
+
+        mShadowFalloff = builder.mShadowFalloff;
+
+        mShadowDx = builder.mShadowDx;
+
+        mShadowDy = builder.mShadowDy;
+
+        mShadowSpread = builder.mShadowSpread;
+
+        mShadowPath = builder.mShadowPath;
+
+        mHash = computeHash();
+
+    }
+
+    private int computeHash() {
+
+        int result = mShadowColor;
+
+        result = 31 * result + Float.floatToIntBits(mShadowRadius);
+
+        result = 31 * result + mShadowSide;
+
+        result = 31 * result + mShadowShape;
+
+        result = 31 * result + mCornerPosition;
+
+        result = 31 * result + Float.floatToIntBits(mRoundCornerRadius);
+
+        result = 31 * result + Arrays.hashCode(mRoundCornerRadii);
+
+        result = 31 * result + mShadowFalloff;
+
+        result = 31 * result + Float.floatToIntBits(mShadowDx);
+
+        result = 31 * result + Float.floatToIntBits(mShadowDy);
+
+        result = 31 * result + Float.floatToIntBits(mShadowSpread);
+
+        result = 31 * result + System.identityHashCode(mShadowPath);
+
+        return result;
+    }
+
+    /**
+     * 返回参数相同的共享对象
+     */
+    private static ShadowSpec intern(ShadowSpec spec) {
+
+        synchronized (sPool) {
+
+            WeakReference<ShadowSpec> reference = sPool.get(spec);
+
+            ShadowSpec shared = reference == null ? null : reference.get();
+
+            if (shared != null) {
+                return shared;
+            }
+
+            sPool.put(spec, new WeakReference<>(spec));
+
+            return spec;
+        }
+    }
+
+    public int getShadowColor() {
+        return mShadowColor;
+    }
+
+    public float getShadowRadius() {
+        return mShadowRadius;
+    }
+
+    public int getShadowSide() {
+        return mShadowSide;
+    }
+
+    public int getShadowShape() {
+        return mShadowShape;
+    }
+
+    public int getCornerPosition() {
+        return mCornerPosition;
+    }
+
+    public float getRoundCornerRadius() {
+        return mRoundCornerRadius;
+    }
+
+    /**
+     * @return 每个角的圆角半径，顺序：左上、右上、右下、左下
+     */
+    public float[] getRoundCornerRadii() {
+        return mRoundCornerRadii.clone();
+    }
+
+    /**
+     * @param index 0 到 3，顺序：左上、右上、右下、左下
+     */
+    public float getRoundCornerRadius(int index) {
+        return mRoundCornerRadii[index];
+    }
+
+    public int getShadowFalloff() {
+        return mShadowFalloff;
+    }
+
+    public float getShadowDx() {
+        return mShadowDx;
+    }
+
+    public float getShadowDy() {
+        return mShadowDy;
+    }
+
+    public float getShadowSpread() {
+        return mShadowSpread;
+    }
+
+    public Path getShadowPath() {
+        return mShadowPath;
+    }
+
+    /**
+     * 以当前参数为基础创建新的 Builder
+     */
+    public Builder buildUpon() {
+        return new Builder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ShadowSpec)) {
+            return false;
+        }
+
+        ShadowSpec spec = (ShadowSpec) o;
+
+        return mHash == spec.mHash
+                && mShadowColor == spec.mShadowColor
+                && mShadowRadius == spec.mShadowRadius
+                && mShadowSide == spec.mShadowSide
+                && mShadowShape == spec.mShadowShape
+                && mCornerPosition == spec.mCornerPosition
+                && mRoundCornerRadius == spec.mRoundCornerRadius
+                && Arrays.equals(mRoundCornerRadii, spec.mRoundCornerRadii)
+                && mShadowFalloff == spec.mShadowFalloff
+                && mShadowDx == spec.mShadowDx
+                && mShadowDy == spec.mShadowDy
+                && mShadowSpread == spec.mShadowSpread
+                && mShadowPath == spec.mShadowPath;
+    }
+
+    @Override
+    public int hashCode() {
+        return mHash;
+    }
+
+    @Override
+    public String toString() {
+        return "ShadowSpec{color=#" + Integer.toHexString(mShadowColor)
+                + ", radius=" + mShadowRadius
+                + ", side=0x" + Integer.toHexString(mShadowSide)
+                + ", shape=0x" + Integer.toHexString(mShadowShape)
+                + ", corner=0x" + Integer.toHexString(mCornerPosition)
+                + ", roundRadii=" + Arrays.toString(mRoundCornerRadii)
+                + ", falloff=" + mShadowFalloff
+                + ", dx=" + mShadowDx
+                + ", dy=" + mShadowDy
+                + ", spread=" + mShadowSpread
+                + '}';
+    }
+
+    /**
+     * 默认值与布局中的 FpShadowLayout 不设置属性时相同，默认参数创建的 ShadowSpec 与这样的 FpShadowLayout 是同一个对象。
+     * FpShadowContainer 的子 view 默认圆角半径为 0，需要自己设置
+     */
+    public static final class Builder {
+
+        private int mShadowColor = 0xff000000;
+
+        private float mShadowRadius = FpShadowLayout.DEFAULT_SHADOW_RADIUS;
+
+        private int mShadowSide = FpShadowLayout.ALL;
+
+        private int mShadowShape = FpShadowLayout.SHAPE_RECTANGLE;
+
+        private int mCornerPosition = FpShadowLayout.CORNER_ALL;
+
+        private float mRoundCornerRadius = FpShadowLayout.DEFAULT_SHADOW_RADIUS;
+
+        private final float[] mRoundCornerRadii = {FpShadowLayout.DEFAULT_SHADOW_RADIUS, FpShadowLayout.DEFAULT_SHADOW_RADIUS,
+                FpShadowLayout.DEFAULT_SHADOW_RADIUS, FpShadowLayout.DEFAULT_SHADOW_RADIUS};
+
+        private int mShadowFalloff = FpShadowLayout.FALLOFF_LINEAR;
+
+        private float mShadowDx, mShadowDy;
+
+        private float mShadowSpread;
+
+        private Path mShadowPath;
+
+        public Builder() {
+        }
+
+        public Builder(ShadowSpec spec) {
+
+            mShadowColor = spec.mShadowColor;
+
+            mShadowRadius = spec.mShadowRadius;
+
+            mShadowSide = spec.mShadowSide;
+
+            mShadowShape = spec.mShadowShape;
+
+            mCornerPosition = spec.mCornerPosition;
+
+            mRoundCornerRadius = spec.mRoundCornerRadius;
+
+            System.arraycopy(spec.mRoundCornerRadii, 0, mRoundCornerRadii, 0, 4);
+
+            mShadowFalloff = spec.mShadowFalloff;
+
+            mShadowDx = spec.mShadowDx;
+
+            mShadowDy = spec.mShadowDy;
+
+            mShadowSpread = spec.mShadowSpread;
+
+            mShadowPath = spec.mShadowPath;
+
+        }
+
+        public Builder setShadowColor(int shadowColor) {
+
+            mShadowColor = shadowColor;
+
+            return this;
+        }
+
+        public Builder setShadowRadius(float shadowRadius) {
+
+            mShadowRadius = shadowRadius;
+
+            return this;
+        }
+
+        public Builder setShadowSide(int shadowSide) {
+
+            mShadowSide = shadowSide;
+
+            return this;
+        }
+
+        public Builder setShadowShape(int shadowShape) {
+
+            mShadowShape = shadowShape;
+
+            return this;
+        }
+
+        public Builder setCornerPosition(int cornerPosition) {
+
+            mCornerPosition = cornerPosition;
+
+            return this;
+        }
+
+        public Builder setRoundCornerRadius(float roundCornerRadius) {
+
+            mRoundCornerRadius = roundCornerRadius;
+
+            mRoundCornerRadii[0] = mRoundCornerRadii[1] = mRoundCornerRadii[2] = mRoundCornerRadii[3] = roundCornerRadius;
+
+            return this;
+        }
+
+        public Builder setRoundCornerRadii(float leftTop, float rightTop, float rightBottom, float leftBottom) {
+
+            mRoundCornerRadii[0] = leftTop;
+
+            mRoundCornerRadii[1] = rightTop;
+
+            mRoundCornerRadii[2] = rightBottom;
+
+            mRoundCornerRadii[3] = leftBottom;
+
+            return this;
+        }
+
+        public Builder setShadowFalloff(int falloff) {
+
+            mShadowFalloff = falloff;
+
+            return this;
+        }
+
+        public Builder setShadowOffset(float dx, float dy) {
+
+            mShadowDx = dx;
+
+            mShadowDy = dy;
+
+            return this;
+        }
+
+        public Builder setShadowSpread(float spread) {
+
+            mShadowSpread = spread;
+
+            return this;
+        }
+
+        /**
+         * 自定义形状，形状会切换为 {@link FpShadowLayout#SHAPE_PATH}，path 设置后不能再修改
+         */
+        public Builder setShadowPath(Path path) {
+
+            mShadowPath = path;
+
+            mShadowShape = FpShadowLayout.SHAPE_PATH;
+
+            return this;
+        }
+
+        /**
+         * 只设置 path，不修改形状，用于从 drawable 取出当前参数
+         */
+        Builder setShadowPathOnly(Path path) {
+
+            mShadowPath = path;
+
+            return this;
+        }
+
+        /**
+         * @return 参数相同时返回同一个对象
+         */
+        public ShadowSpec build() {
+            return intern(new ShadowSpec(this));
+        }
+    }
+}
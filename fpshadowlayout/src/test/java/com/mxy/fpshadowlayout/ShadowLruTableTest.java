@@ -0,0 +1,198 @@
+package com.mxy.fpshadowlayout;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * ShadowLruTable 的查找、替换、按字节数淘汰，以及 ShadowKey 中 -0 与 0 的处理
+ */
+public class ShadowLruTableTest {
+
+    private static ShadowKey key(int width, float shadowRadius) {
+
+        ShadowKey key = new ShadowKey();
+
+        key.set(width, 10, shadowRadius, new float[4], FpShadowLayout.ALL, FpShadowLayout.SHAPE_RECTANGLE,
+                FpShadowLayout.FALLOFF_LINEAR, null);
+
+        return key;
+    }
+
+    @Test
+    public void getReturnsPutValue() {
+
+        ShadowLruTable table = new ShadowLruTable(100);
+
+        table.put(key(1, 4), "a", 10);
+
+        //参数相同的另一个对象也能取到
+        assertEquals("a", table.get(key(1, 4)));
+
+        assertNull(table.get(key(2, 4)));
+
+        assertNull(table.get(key(1, 5)));
+    }
+
+    @Test
+    public void putReplacesValueAndSize() {
+
+        ShadowLruTable table = new ShadowLruTable(100);
+
+        table.put(key(1, 4), "a", 60);
+
+        table.put(key(1, 4), "b", 10);
+
+        assertEquals("b", table.get(key(1, 4)));
+
+        //替换后按新的大小计算，不会淘汰
+        table.put(key(2, 4), "c", 50);
+
+        assertEquals("b", table.get(key(1, 4)));
+
+        assertEquals("c", table.get(key(2, 4)));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+
+        ShadowLruTable table = new ShadowLruTable(30);
+
+        table.put(key(1, 4), "a", 10);
+
+        table.put(key(2, 4), "b", 10);
+
+        table.put(key(3, 4), "c", 10);
+
+        //访问后 a 变成最近使用，最久没用的是 b
+        assertEquals("a", table.get(key(1, 4)));
+
+        table.put(key(4, 4), "d", 10);
+
+        assertNull(table.get(key(2, 4)));
+
+        assertEquals("a", table.get(key(1, 4)));
+
+        assertEquals("c", table.get(key(3, 4)));
+
+        assertEquals("d", table.get(key(4, 4)));
+    }
+
+    @Test
+    public void evictsAcrossRehash() {
+
+        ShadowLruTable table = new ShadowLruTable(100);
+
+        //超过初始容量，扩容和删除后的前移都会用到
+        for (int i = 0; i < 500; i++) {
+            table.put(key(i, 4), i, 1);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            if (i < 400) {
+                assertNull(table.get(key(i, 4)));
+            } else {
+                assertEquals(i, table.get(key(i, 4)));
+            }
+        }
+    }
+
+    @Test
+    public void valueLargerThanMaxSizeIsNotKept() {
+
+        ShadowLruTable table = new ShadowLruTable(10);
+
+        table.put(key(1, 4), "a", 5);
+
+        table.put(key(2, 4), "b", 20);
+
+        assertNull(table.get(key(1, 4)));
+
+        assertNull(table.get(key(2, 4)));
+    }
+
+    @Test
+    public void setMaxSizeTrimsOldest() {
+
+        ShadowLruTable table = new ShadowLruTable(100);
+
+        for (int i = 0; i < 5; i++) {
+            table.put(key(i, 4), i, 10);
+        }
+
+        table.setMaxSize(20);
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(table.get(key(i, 4)));
+        }
+
+        assertEquals(3, table.get(key(3, 4)));
+
+        assertEquals(4, table.get(key(4, 4)));
+
+        //之后按新的大小淘汰
+        table.put(key(5, 4), 5, 10);
+
+        assertNull(table.get(key(3, 4)));
+
+        assertEquals(4, table.get(key(4, 4)));
+
+        assertEquals(5, table.get(key(5, 4)));
+    }
+
+    @Test
+    public void clearRemovesEverything() {
+
+        ShadowLruTable table = new ShadowLruTable(100);
+
+        for (int i = 0; i < 5; i++) {
+            table.put(key(i, 4), i, 10);
+        }
+
+        table.clear();
+
+        for (int i = 0; i < 5; i++) {
+            assertNull(table.get(key(i, 4)));
+        }
+
+        //清空后字节数也归零，可以放满
+        for (int i = 0; i < 10; i++) {
+            table.put(key(i, 4), i, 10);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, table.get(key(i, 4)));
+        }
+    }
+
+    @Test
+    public void negativeZeroMatchesZero() {
+
+        ShadowKey zero = key(1, 0f);
+
+        ShadowKey negativeZero = key(1, -0f);
+
+        assertEquals(zero.packed, negativeZero.packed);
+
+        assertEquals(zero, negativeZero);
+
+        assertEquals(zero.hashCode(), negativeZero.hashCode());
+
+        float[] radii = {-0f, 0f, -0f, 0f};
+
+        ShadowKey corners = new ShadowKey();
+
+        corners.set(1, 10, 0f, radii, FpShadowLayout.ALL, FpShadowLayout.SHAPE_RECTANGLE,
+                FpShadowLayout.FALLOFF_LINEAR, null);
+
+        assertEquals(zero.packed, corners.packed);
+
+        ShadowLruTable table = new ShadowLruTable(100);
+
+        table.put(negativeZero, "a", 10);
+
+        assertEquals("a", table.get(zero));
+
+        assertEquals("a", table.get(corners));
+    }
+}
@@ -0,0 +1,56 @@
+package com.mxy.fpshadowlayout;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * 预加载时尺寸的定点编码与 aapt 相同，还原后与 TypedArray.getDimension 读到的值逐位相同
+ */
+public class ShadowPreloaderTest {
+
+    //与 TypedValue.complexToFloat 相同的解码
+    private static float complexToFloat(int complex) {
+
+        float mantissaMult = 1.0f / (1 << 8);
+
+        float[] radixMults = {mantissaMult, 1.0f / (1 << 7) * mantissaMult,
+                1.0f / (1 << 15) * mantissaMult, 1.0f / (1 << 23) * mantissaMult};
+
+        return (complex & (0xffffff << 8)) * radixMults[(complex >> 4) & 3];
+    }
+
+    @Test
+    public void integersUseRadix23p0() {
+
+        //尾数 12，小数位数 0
+        assertEquals(12 << 8, ShadowPreloader.floatToComplex(12f));
+
+        assertEquals(0, ShadowPreloader.floatToComplex(0f));
+    }
+
+    @Test
+    public void exactValuesRoundTrip() {
+
+        float[] values = {0f, 0.5f, 1f, 4f, 12f, 16.25f, 100.5f, 1000f, -4f, -0.5f};
+
+        for (float value : values) {
+            assertEquals(Float.floatToIntBits(value + 0f),
+                    Float.floatToIntBits(complexToFloat(ShadowPreloader.floatToComplex(value)) + 0f));
+        }
+    }
+
+    @Test
+    public void inexactValuesAreQuantized() {
+
+        float decoded = complexToFloat(ShadowPreloader.floatToComplex(2.3f));
+
+        //2.3 不能用定点数精确表示，还原后与 parseFloat 的结果不同，但非常接近
+        assertNotEquals(Float.floatToIntBits(2.3f), Float.floatToIntBits(decoded));
+
+        assertEquals(2.3f, decoded, 1e-4f);
+
+        //再编码一次结果不变
+        assertEquals(Float.floatToIntBits(decoded), Float.floatToIntBits(complexToFloat(ShadowPreloader.floatToComplex(decoded))));
+    }
+}